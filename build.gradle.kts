@@ -1,7 +1,11 @@
+import java.security.SecureRandom
+import java.util.Base64
+
 plugins {
     java
     id("org.springframework.boot") version "3.3.5"
     id("io.spring.dependency-management") version "1.1.6"
+    id("me.champeau.jmh") version "0.7.3"
 }
 
 group = "com.ansysan"
@@ -19,6 +23,11 @@ repositories {
     mavenCentral()
 }
 
+val loadtest: SourceSet by sourceSets.creating {
+    compileClasspath += sourceSets["main"].output
+    runtimeClasspath += sourceSets["main"].output
+}
+
 dependencies {
     /**
      * Spring boot starters
@@ -29,19 +38,25 @@ dependencies {
     implementation("org.springframework.boot:spring-boot-starter-web")
     implementation("org.springframework.boot:spring-boot-starter-validation")
     implementation("org.springframework.boot:spring-boot-starter-security")
+    implementation("org.springframework.boot:spring-boot-starter-actuator")
+    implementation("org.springframework.boot:spring-boot-starter-aop")
     annotationProcessor("org.springframework.boot:spring-boot-configuration-processor")
 
     /**
      * Database
      */
     implementation("org.liquibase:liquibase-core")
-    runtimeOnly("org.postgresql:postgresql")
+    implementation("org.postgresql:postgresql")
 
     /**
      * Utils & Logging
      */
-    implementation("com.fasterxml.jackson.core:jackson-databind:2.14.2")
+    implementation("com.fasterxml.jackson.core:jackson-databind")
     implementation("com.fasterxml.jackson.datatype:jackson-datatype-jsr310")
+    implementation("com.fasterxml.jackson.dataformat:jackson-dataformat-csv")
+    implementation("com.fasterxml.jackson.dataformat:jackson-dataformat-smile")
+    implementation("com.fasterxml.jackson.dataformat:jackson-dataformat-cbor")
+    implementation("com.fasterxml.jackson.module:jackson-module-blackbird")
     implementation("org.slf4j:slf4j-api:2.0.5")
     implementation("ch.qos.logback:logback-classic:1.4.6")
     implementation("org.projectlombok:lombok:1.18.30")
@@ -52,6 +67,13 @@ dependencies {
     implementation("io.jsonwebtoken:jjwt-api:0.11.2")
     implementation("io.jsonwebtoken:jjwt-impl:0.11.2")
     implementation("io.jsonwebtoken:jjwt-jackson:0.11.2")
+    implementation("com.github.ben-manes.caffeine:caffeine")
+
+    /**
+     * Metrics
+     */
+    implementation("io.micrometer:micrometer-registry-prometheus")
+    implementation("org.hibernate.orm:hibernate-micrometer")
     /**
      * Test containers
      */
@@ -66,9 +88,66 @@ dependencies {
     testImplementation("org.junit.jupiter:junit-jupiter-params:5.9.2")
     testImplementation("org.assertj:assertj-core:3.24.2")
     testImplementation("org.springframework.boot:spring-boot-starter-test")
+    testImplementation("org.springframework.security:spring-security-test")
+
+    /**
+     * Benchmarks
+     */
+    jmh("org.springframework:spring-test")
+    jmh("org.mockito:mockito-core")
+
+    /**
+     * Load tests
+     */
+    "loadtestImplementation"("org.hdrhistogram:HdrHistogram:2.2.2")
+    "loadtestImplementation"("com.fasterxml.jackson.core:jackson-databind")
     implementation(kotlin("script-runtime"))
 }
 
 tasks.withType<Test> {
     useJUnitPlatform()
-}
\ No newline at end of file
+}
+
+jmh {
+    jmhVersion.set("1.37")
+    fork.set(1)
+    warmupIterations.set(3)
+    iterations.set(5)
+    benchmarkMode.set(listOf("thrpt"))
+    timeUnit.set("us")
+    zip64.set(true)
+    profilers.set(listOf("gc"))
+    resultFormat.set("JSON")
+    resultsFile.set(layout.buildDirectory.file("results/jmh/results-${project.version}.json"))
+}
+
+/**
+ * Loads a synthetic dataset into the configured database, e.g.
+ * gradle generateDataset -Pdatagen.seed=7 -Pdatagen.users=1000000 -Pdatagen.tasks=50000000 -Pdatagen.comments=200000000
+ */
+tasks.register<JavaExec>("generateDataset") {
+    group = "application"
+    description = "Bulk-loads synthetic users, tasks and comments; see application-datagen.yaml for the options."
+    classpath = sourceSets["main"].runtimeClasspath
+    mainClass.set("com.ansysan.task_management_system.TaskManagementSystemApplication")
+    args("--spring.profiles.active=datagen")
+    // the loader issues no tokens, so an ephemeral key satisfies the mandatory JWT secret
+    if (System.getenv("JWT_SECRET") == null) {
+        val key = ByteArray(32).also { SecureRandom().nextBytes(it) }
+        environment("JWT_SECRET", Base64.getEncoder().encodeToString(key))
+    }
+    args(project.properties.filterKeys { it.startsWith("datagen.") }.map { "--${it.key}=${it.value}" })
+}
+
+/**
+ * Runs an open-model load test against an already running application, e.g.
+ * gradle loadTest -Pscenario=src/loadtest/resources/scenarios/task-mix.json -Pload.ratePerSecond=200
+ */
+tasks.register<JavaExec>("loadTest") {
+    group = "verification"
+    description = "Replays a scenario at a constant arrival rate and reports latency percentiles."
+    classpath = loadtest.runtimeClasspath
+    mainClass.set("com.ansysan.task_management_system.loadtest.LoadTest")
+    args(project.findProperty("scenario") ?: "src/loadtest/resources/scenarios/task-mix.json")
+    args(project.properties.filterKeys { it.startsWith("load.") }.map { "${it.key.removePrefix("load.")}=${it.value}" })
+}
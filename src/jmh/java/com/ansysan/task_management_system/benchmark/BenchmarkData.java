@@ -0,0 +1,66 @@
+package com.ansysan.task_management_system.benchmark;
+
+import com.ansysan.task_management_system.entity.Comment;
+import com.ansysan.task_management_system.entity.Task;
+import com.ansysan.task_management_system.entity.User;
+import com.ansysan.task_management_system.entity.enums.Priority;
+import com.ansysan.task_management_system.entity.enums.Role;
+import com.ansysan.task_management_system.entity.enums.Status;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Entities shaped like production rows: two users, a few sentences of text and a handful of comments.
+ */
+final class BenchmarkData {
+    static final String SECRET = "NPqp7C5ElqPPgq8OskgNPXP1wr+SyqHlXMd60VfDeaY=";
+
+    private BenchmarkData() {
+    }
+
+    static User user(long id) {
+        return User.builder()
+                .id(id)
+                .username("user" + id)
+                .email("user" + id + "@example.com")
+                .password("$2a$10$7EqJtq98hPqEX7fNZaFWoOa5UcrB6zQx5PfTqxSfbBPFnK7Z/5U2y")
+                .role(Role.USER)
+                .build();
+    }
+
+    static Task task(long id, int comments) {
+        LocalDateTime now = LocalDateTime.of(2024, 5, 1, 12, 0);
+        Task task = Task.builder()
+                .id(id)
+                .header("Prepare release notes " + id)
+                .description("Collect the merged changes, group them by area and describe the user-visible ones.")
+                .status(Status.PROGRESS)
+                .priority(Priority.MIDDLE)
+                .createdDate(now.minusDays(id % 30))
+                .updatedDate(now)
+                .version(3L)
+                .author(user(1))
+                .performer(user(2))
+                .build();
+        List<Comment> taskComments = new ArrayList<>();
+        for (int i = 0; i < comments; i++) {
+            taskComments.add(comment(id * 100 + i, task));
+        }
+        task.setComments(taskComments);
+        return task;
+    }
+
+    static Comment comment(long id, Task task) {
+        LocalDateTime now = LocalDateTime.of(2024, 5, 1, 12, 0);
+        return Comment.builder()
+                .id(id)
+                .author("user1@example.com")
+                .text("Looks good, but the migration section needs an example.")
+                .createdDate(now)
+                .updatedDate(now)
+                .task(task)
+                .build();
+    }
+}
@@ -0,0 +1,74 @@
+package com.ansysan.task_management_system.benchmark;
+
+import com.ansysan.task_management_system.config.JwtConfig;
+import com.ansysan.task_management_system.config.JwtTokenAuthenticationFilter;
+import com.ansysan.task_management_system.entity.enums.Role;
+import com.ansysan.task_management_system.service.JwtService;
+import com.ansysan.task_management_system.service.JwtTokenCache;
+import com.ansysan.task_management_system.service.TokenRevocationService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * The whole bearer token filter per request: header parsing, verified-token cache, revocation
+ * check and building the authentication. The revocation mirror is the real in-memory one; its Redis
+ * collaborators are mocked and never called on this path.
+ */
+@State(Scope.Benchmark)
+public class JwtFilterBenchmark {
+    private JwtTokenAuthenticationFilter filter;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        JwtConfig jwtConfig = new JwtConfig();
+        jwtConfig.setSecret(BenchmarkData.SECRET);
+        jwtConfig.setExpiration(24 * 60 * 60);
+        JwtService jwtService = new JwtService(jwtConfig);
+        TokenRevocationService tokenRevocationService = new TokenRevocationService(
+                mock(StringRedisTemplate.class), new RedisMessageListenerContainer(), jwtConfig);
+        filter = new JwtTokenAuthenticationFilter(new JwtTokenCache(jwtService, 10_000, Duration.ofMinutes(15)),
+                tokenRevocationService, new SimpleMeterRegistry());
+        token = jwtService.generateToken(UsernamePasswordAuthenticationToken.authenticated(
+                "admin@example.com", null, List.of(Role.ADMIN)));
+    }
+
+    @Benchmark
+    public Object authenticatedRequest() throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/1");
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+        return doFilter(request);
+    }
+
+    @Benchmark
+    public Object anonymousRequest() throws ServletException, IOException {
+        return doFilter(new MockHttpServletRequest("GET", "/1"));
+    }
+
+    private Object doFilter(MockHttpServletRequest request) throws ServletException, IOException {
+        try {
+            filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+}
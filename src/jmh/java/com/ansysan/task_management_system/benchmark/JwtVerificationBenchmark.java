@@ -0,0 +1,66 @@
+package com.ansysan.task_management_system.benchmark;
+
+import com.ansysan.task_management_system.config.JwtConfig;
+import com.ansysan.task_management_system.entity.enums.Role;
+import com.ansysan.task_management_system.service.JwtService;
+import com.ansysan.task_management_system.service.JwtTokenCache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Token issue and verification: signing, the single-parse verification against the older
+ * validate-then-extract calls, and looking a token up in the verified-token cache.
+ * Run with {@code gradle jmh}; results are written as JSON to {@code build/results/jmh}.
+ */
+@State(Scope.Benchmark)
+public class JwtVerificationBenchmark {
+    private JwtService jwtService;
+    private JwtTokenCache jwtTokenCache;
+    private String token;
+    private Authentication authentication;
+
+    @Setup
+    public void setUp() {
+        JwtConfig jwtConfig = new JwtConfig();
+        jwtConfig.setSecret(BenchmarkData.SECRET);
+        jwtConfig.setExpiration(24 * 60 * 60);
+        jwtService = new JwtService(jwtConfig);
+        jwtTokenCache = new JwtTokenCache(jwtService, 10_000, Duration.ofMinutes(15));
+        authentication = UsernamePasswordAuthenticationToken.authenticated(
+                "admin@example.com", null, List.of(Role.ADMIN));
+        token = jwtService.generateToken(authentication);
+        jwtTokenCache.verify(token);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtService.generateToken(authentication);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtService.validateToken(token);
+    }
+
+    @Benchmark
+    public Object extractAllClaims() {
+        return jwtService.extractAllClaims(token);
+    }
+
+    @Benchmark
+    public Object parseToken() {
+        return jwtService.parseToken(token);
+    }
+
+    @Benchmark
+    public Object cachedToken() {
+        return jwtTokenCache.verify(token);
+    }
+}
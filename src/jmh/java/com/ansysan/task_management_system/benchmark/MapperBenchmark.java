@@ -0,0 +1,50 @@
+package com.ansysan.task_management_system.benchmark;
+
+import com.ansysan.task_management_system.entity.Comment;
+import com.ansysan.task_management_system.entity.Task;
+import com.ansysan.task_management_system.entity.User;
+import com.ansysan.task_management_system.mapper.CommentMapper;
+import com.ansysan.task_management_system.mapper.CommentMapperImpl;
+import com.ansysan.task_management_system.mapper.TaskMapper;
+import com.ansysan.task_management_system.mapper.TaskMapperImpl;
+import com.ansysan.task_management_system.mapper.UserMapper;
+import com.ansysan.task_management_system.mapper.UserMapperImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Entity to DTO mapping through the generated MapStruct mappers.
+ */
+@State(Scope.Benchmark)
+public class MapperBenchmark {
+    private final TaskMapper taskMapper = new TaskMapperImpl();
+    private final CommentMapper commentMapper = new CommentMapperImpl();
+    private final UserMapper userMapper = new UserMapperImpl();
+    private Task task;
+    private Comment comment;
+    private User user;
+
+    @Setup
+    public void setUp() {
+        task = BenchmarkData.task(1, 5);
+        comment = task.getComments().get(0);
+        user = task.getAuthor();
+    }
+
+    @Benchmark
+    public Object taskToDto() {
+        return taskMapper.toDto(task);
+    }
+
+    @Benchmark
+    public Object commentToDto() {
+        return commentMapper.toDto(comment);
+    }
+
+    @Benchmark
+    public Object userToDto() {
+        return userMapper.toDto(user);
+    }
+}
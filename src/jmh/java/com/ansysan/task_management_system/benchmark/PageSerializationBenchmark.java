@@ -0,0 +1,47 @@
+package com.ansysan.task_management_system.benchmark;
+
+import com.ansysan.task_management_system.dto.TaskReadDto;
+import com.ansysan.task_management_system.mapper.TaskMapper;
+import com.ansysan.task_management_system.mapper.TaskMapperImpl;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Serializes a page of tasks with an {@link ObjectMapper} configured like the one Spring MVC uses.
+ */
+@State(Scope.Benchmark)
+public class PageSerializationBenchmark {
+    @Param({"20", "100", "500"})
+    private int pageSize;
+
+    private ObjectMapper objectMapper;
+    private Page<TaskReadDto> page;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        TaskMapper taskMapper = new TaskMapperImpl();
+        List<TaskReadDto> tasks = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            tasks.add(taskMapper.toDto(BenchmarkData.task(i, 3)));
+        }
+        page = new PageImpl<>(tasks, PageRequest.of(0, pageSize), 100_000);
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+}
@@ -0,0 +1,92 @@
+package com.ansysan.task_management_system.benchmark;
+
+import com.ansysan.task_management_system.dto.TaskReadDto;
+import com.ansysan.task_management_system.mapper.TaskMapper;
+import com.ansysan.task_management_system.mapper.TaskMapperImpl;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Compares the negotiable response formats on a page of tasks: CPU per serialization, with and
+ * without gzip, and the resulting bytes on the wire, reported as the {@code bytes} secondary result.
+ */
+@State(Scope.Benchmark)
+public class WireFormatBenchmark {
+    @Param({"json", "smile", "cbor"})
+    private String format;
+
+    @Param({"20", "500"})
+    private int pageSize;
+
+    private ObjectMapper objectMapper;
+    private Page<TaskReadDto> page;
+
+    @Setup
+    public void setUp() {
+        JsonFactory factory = switch (format) {
+            case "smile" -> new SmileFactory();
+            case "cbor" -> new CBORFactory();
+            default -> new JsonFactory();
+        };
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .factory(factory)
+                .modules(new BlackbirdModule())
+                .build();
+        TaskMapper taskMapper = new TaskMapperImpl();
+        List<TaskReadDto> tasks = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            tasks.add(taskMapper.toDto(BenchmarkData.task(i, 3)));
+        }
+        page = new PageImpl<>(tasks, PageRequest.of(0, pageSize), 100_000);
+    }
+
+    /**
+     * Bytes written per operation; the page is fixed, so the size is the same on every call.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class WireSize {
+        public long bytes;
+
+        void record(int size) {
+            bytes = size;
+        }
+    }
+
+    @Benchmark
+    public byte[] serialize(WireSize wireSize) throws IOException {
+        byte[] body = objectMapper.writeValueAsBytes(page);
+        wireSize.record(body.length);
+        return body;
+    }
+
+    @Benchmark
+    public byte[] serializeGzip(WireSize wireSize) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(8 * 1024);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out, 8 * 1024)) {
+            objectMapper.writeValue(gzip, page);
+        }
+        byte[] body = out.toByteArray();
+        wireSize.record(body.length);
+        return body;
+    }
+}
@@ -0,0 +1,322 @@
+package com.ansysan.task_management_system.loadtest;
+
+import com.ansysan.task_management_system.service.ZipfSampler;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Open-model HTTP load generator. Requests are started at a constant arrival rate regardless of how
+ * fast the application answers, and every latency is measured from the request's scheduled start, so a
+ * stalled server shows up in the percentiles instead of silently lowering the offered load.
+ * <p>
+ * Usage: {@code LoadTest <scenario.json> [key=value ...]}, where the overrides replace top-level scenario
+ * fields, e.g. {@code ratePerSecond=200 durationSeconds=120 baseUrl=http://localhost:9000}.
+ */
+public final class LoadTest {
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\$\\{([A-Za-z0-9_.]+)}");
+    private static final Path RESULTS = Path.of("build", "results", "loadtest");
+
+    private final Scenario scenario;
+    private final ObjectMapper objectMapper;
+    private final HttpClient client;
+    private final Map<String, List<Account>> accounts = new LinkedHashMap<>();
+    private final Map<String, Sampler> variables = new LinkedHashMap<>();
+    private final Map<String, OperationStats> stats = new LinkedHashMap<>();
+
+    private LoadTest(Scenario scenario, ObjectMapper objectMapper, ExecutorService executor) {
+        this.scenario = scenario;
+        this.objectMapper = objectMapper;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(executor)
+                .build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length == 0) {
+            System.err.println("Usage: LoadTest <scenario.json> [key=value ...]");
+            System.exit(2);
+        }
+        ObjectMapper objectMapper = new ObjectMapper()
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+                .enable(SerializationFeature.INDENT_OUTPUT);
+        Scenario scenario = readScenario(objectMapper, Path.of(args[0]), List.of(args).subList(1, args.length));
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(4, Runtime.getRuntime().availableProcessors()));
+        try {
+            LoadTest loadTest = new LoadTest(scenario, objectMapper, executor);
+            loadTest.prepare();
+            double seconds = loadTest.run();
+            loadTest.report(seconds);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    static Scenario readScenario(ObjectMapper objectMapper, Path file, List<String> overrides) throws IOException {
+        ObjectNode tree = (ObjectNode) objectMapper.readTree(file.toFile());
+        for (String override : overrides) {
+            int separator = override.indexOf('=');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Override must look like key=value: " + override);
+            }
+            tree.put(override.substring(0, separator), override.substring(separator + 1));
+        }
+        ObjectNode defaults = objectMapper.createObjectNode()
+                .put("name", file.getFileName().toString().replaceFirst("\\.json$", ""))
+                .put("baseUrl", "http://localhost:9000")
+                .put("seed", 42)
+                .put("warmupSeconds", 10)
+                .put("durationSeconds", 60)
+                .put("maxInFlight", 1000)
+                .put("timeoutSeconds", 30)
+                .put("tokenField", "tokenType");
+        defaults.setAll(tree);
+        return objectMapper.treeToValue(defaults, Scenario.class);
+    }
+
+    /**
+     * Logs in (or registers) every account up front so the measured phase only sees the scenario's mix.
+     */
+    private void prepare() throws IOException, InterruptedException {
+        String runId = Long.toString(System.currentTimeMillis(), 36);
+        for (Map.Entry<String, Scenario.AccountGroup> group : scenario.accounts().entrySet()) {
+            List<Account> members = new ArrayList<>();
+            Scenario.AccountGroup spec = group.getValue();
+            if (spec.credentials() != null) {
+                for (Scenario.Credentials credentials : spec.credentials()) {
+                    members.add(authenticate("/auth/authentication", credentials));
+                }
+            }
+            for (int i = 0; i < spec.register(); i++) {
+                String username = "loadtest-" + runId + "-" + group.getKey() + "-" + i;
+                String password = spec.password() != null ? spec.password() : "password";
+                members.add(authenticate("/auth/registration",
+                        new Scenario.Credentials(username, username + "@loadtest.test", password)));
+            }
+            if (members.isEmpty()) {
+                throw new IllegalStateException("Account group " + group.getKey() + " is empty");
+            }
+            accounts.put(group.getKey(), members);
+        }
+
+        Random random = new Random(scenario.seed());
+        if (scenario.variables() != null) {
+            scenario.variables().forEach((name, variable) -> variables.put(name, sampler(variable, random.nextLong())));
+        }
+        for (Scenario.Operation operation : scenario.operations()) {
+            if (operation.account() != null && !accounts.containsKey(operation.account())) {
+                throw new IllegalStateException("Operation " + operation.name() + " uses unknown account group "
+                        + operation.account());
+            }
+            stats.put(operation.name(), new OperationStats());
+        }
+    }
+
+    private Account authenticate(String path, Scenario.Credentials credentials)
+            throws IOException, InterruptedException {
+        ObjectNode body = objectMapper.createObjectNode()
+                .put("username", credentials.username() != null ? credentials.username() : credentials.email())
+                .put("email", credentials.email())
+                .put("password", credentials.password());
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(URI.create(scenario.baseUrl() + path))
+                        .header("Content-Type", "application/json")
+                        .timeout(Duration.ofSeconds(scenario.timeoutSeconds()))
+                        .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() / 100 != 2) {
+            throw new IllegalStateException(path + " failed for " + credentials.email() + ": "
+                    + response.statusCode() + " " + response.body());
+        }
+        String token = objectMapper.readTree(response.body()).path(scenario.tokenField()).asText(null);
+        if (token == null) {
+            throw new IllegalStateException(path + " returned no " + scenario.tokenField() + " field");
+        }
+        return new Account(credentials, token);
+    }
+
+    /**
+     * Dispatches requests at {@code ratePerSecond} from a single thread and waits for the stragglers.
+     *
+     * @return the length of the measured phase in seconds
+     */
+    private double run() throws InterruptedException {
+        double[] cumulativeWeights = new double[scenario.operations().size()];
+        double totalWeight = 0;
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            totalWeight += scenario.operations().get(i).weight();
+            cumulativeWeights[i] = totalWeight;
+        }
+
+        SplittableRandom random = new SplittableRandom(scenario.seed());
+        Semaphore inFlight = new Semaphore(scenario.maxInFlight());
+        double intervalNanos = TimeUnit.SECONDS.toNanos(1) / scenario.ratePerSecond();
+        long total = (long) (scenario.ratePerSecond() * (scenario.warmupSeconds() + scenario.durationSeconds()));
+        long start = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(100);
+        long measureFrom = start + TimeUnit.SECONDS.toNanos(scenario.warmupSeconds());
+
+        System.out.printf(Locale.ROOT, "%s: %.1f req/s for %ds after %ds warmup against %s%n",
+                scenario.name(), scenario.ratePerSecond(), scenario.durationSeconds(), scenario.warmupSeconds(),
+                scenario.baseUrl());
+
+        for (long i = 0; i < total; i++) {
+            long scheduled = start + (long) (i * intervalNanos);
+            long delay;
+            while ((delay = scheduled - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(delay);
+            }
+            double pick = random.nextDouble() * totalWeight;
+            int index = 0;
+            while (cumulativeWeights[index] <= pick && index < cumulativeWeights.length - 1) {
+                index++;
+            }
+            Scenario.Operation operation = scenario.operations().get(index);
+            HttpRequest request = buildRequest(operation, random);
+            OperationStats operationStats = scheduled >= measureFrom ? stats.get(operation.name()) : null;
+
+            inFlight.acquire();
+            long sent = System.nanoTime();
+            client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> {
+                        long completed = System.nanoTime();
+                        inFlight.release();
+                        if (operationStats != null) {
+                            operationStats.record(scheduled, sent, completed, error == null ? response.statusCode() : 0);
+                        }
+                    });
+        }
+        inFlight.acquire(scenario.maxInFlight());
+        return scenario.durationSeconds();
+    }
+
+    private HttpRequest buildRequest(Scenario.Operation operation, SplittableRandom random) {
+        Map<String, String> values = new LinkedHashMap<>();
+        variables.forEach((name, sampler) -> values.put(name, Long.toString(sampler.next(random))));
+        Account account = null;
+        if (operation.account() != null) {
+            List<Account> members = accounts.get(operation.account());
+            account = members.get(random.nextInt(members.size()));
+            values.put("account.username", account.credentials().username() != null
+                    ? account.credentials().username() : account.credentials().email());
+            values.put("account.email", account.credentials().email());
+            values.put("account.password", account.credentials().password());
+        }
+        values.put("random", Long.toString(random.nextLong() & Long.MAX_VALUE, 36));
+
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(scenario.baseUrl() + substitute(operation.path(), values)))
+                .timeout(Duration.ofSeconds(scenario.timeoutSeconds()));
+        if (account != null && !Boolean.FALSE.equals(operation.auth())) {
+            builder.header("Authorization", "Bearer " + account.token());
+        }
+        if (operation.body() == null || operation.body().isNull()) {
+            return builder.method(operation.method(), HttpRequest.BodyPublishers.noBody()).build();
+        }
+        return builder.header("Content-Type", "application/json")
+                .method(operation.method(), HttpRequest.BodyPublishers.ofString(substitute(operation.body(), values)))
+                .build();
+    }
+
+    private String substitute(JsonNode body, Map<String, String> values) {
+        try {
+            return substitute(objectMapper.writeValueAsString(body), values);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static String substitute(String template, Map<String, String> values) {
+        Matcher matcher = PLACEHOLDER.matcher(template);
+        StringBuilder result = new StringBuilder();
+        while (matcher.find()) {
+            String value = values.get(matcher.group(1));
+            if (value == null) {
+                throw new IllegalArgumentException("Unknown placeholder ${" + matcher.group(1) + "} in " + template);
+            }
+            matcher.appendReplacement(result, Matcher.quoteReplacement(value));
+        }
+        matcher.appendTail(result);
+        return result.toString();
+    }
+
+    private void report(double seconds) throws IOException {
+        OperationStats totals = new OperationStats();
+        stats.values().forEach(totals::add);
+
+        System.out.printf(Locale.ROOT, "%n%-12s %9s %7s %9s %9s %9s %9s %9s %9s%n",
+                "operation", "count", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        stats.forEach((name, operationStats) -> printRow(name, operationStats, seconds));
+        printRow("total", totals, seconds);
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("scenario", scenario);
+        result.put("finishedAt", Instant.now().toString());
+        result.put("measuredSeconds", seconds);
+        result.put("total", totals.summary(seconds));
+        Map<String, Object> operations = new LinkedHashMap<>();
+        stats.forEach((name, operationStats) -> operations.put(name, operationStats.summary(seconds)));
+        result.put("operations", operations);
+
+        Files.createDirectories(RESULTS);
+        Path file = RESULTS.resolve(scenario.name() + "-" + Instant.now().getEpochSecond() + ".json");
+        objectMapper.writeValue(file.toFile(), result);
+        System.out.println("\nResponse times include queueing from the scheduled start; see " + file
+                + " for service times and status codes.");
+    }
+
+    private static void printRow(String name, OperationStats operationStats, double seconds) {
+        System.out.printf(Locale.ROOT, "%-12s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                name, operationStats.count(), operationStats.errors(), operationStats.count() / seconds,
+                operationStats.responsePercentileMillis(50), operationStats.responsePercentileMillis(90),
+                operationStats.responsePercentileMillis(99), operationStats.responsePercentileMillis(99.9),
+                operationStats.responseMaxMillis());
+    }
+
+    private static Sampler sampler(Scenario.Variable variable, long seed) {
+        long range = variable.max() - variable.min() + 1;
+        if (range <= 0) {
+            throw new IllegalArgumentException("Variable max must not be below min");
+        }
+        if (variable.skew() <= 0) {
+            return random -> variable.min() + random.nextLong(range);
+        }
+        ZipfSampler zipf = new ZipfSampler(range, variable.skew(), seed);
+        return random -> variable.min() + zipf.sampleIndex(random);
+    }
+
+    @FunctionalInterface
+    private interface Sampler {
+        long next(SplittableRandom random);
+    }
+
+    private record Account(Scenario.Credentials credentials, String token) {
+    }
+}
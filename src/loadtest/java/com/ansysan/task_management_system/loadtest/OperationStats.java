@@ -0,0 +1,79 @@
+package com.ansysan.task_management_system.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latencies of one operation in microseconds. Response time is measured from the moment the request
+ * was scheduled to start, so time spent waiting behind a slow system is included (coordinated
+ * omission correction); service time is measured from the moment it was actually sent.
+ */
+final class OperationStats {
+    private static final long MAX_MICROS = TimeUnit.MINUTES.toMicros(10);
+
+    private final Histogram responseTime = new Histogram(MAX_MICROS, 3);
+    private final Histogram serviceTime = new Histogram(MAX_MICROS, 3);
+    private final Map<Integer, Long> statuses = new TreeMap<>();
+    private long errors;
+
+    synchronized void record(long scheduledNanos, long sentNanos, long completedNanos, int status) {
+        responseTime.recordValue(Math.min(MAX_MICROS, toMicros(completedNanos - scheduledNanos)));
+        serviceTime.recordValue(Math.min(MAX_MICROS, toMicros(completedNanos - sentNanos)));
+        statuses.merge(status, 1L, Long::sum);
+        if (status < 200 || status >= 400) {
+            errors++;
+        }
+    }
+
+    synchronized void add(OperationStats other) {
+        responseTime.add(other.responseTime);
+        serviceTime.add(other.serviceTime);
+        other.statuses.forEach((status, count) -> statuses.merge(status, count, Long::sum));
+        errors += other.errors;
+    }
+
+    synchronized Map<String, Object> summary(double seconds) {
+        Map<String, Object> summary = new TreeMap<>();
+        summary.put("count", responseTime.getTotalCount());
+        summary.put("errors", errors);
+        summary.put("throughput", responseTime.getTotalCount() / seconds);
+        summary.put("statuses", new TreeMap<>(statuses));
+        summary.put("responseTimeMs", percentiles(responseTime));
+        summary.put("serviceTimeMs", percentiles(serviceTime));
+        return summary;
+    }
+
+    synchronized long count() {
+        return responseTime.getTotalCount();
+    }
+
+    synchronized long errors() {
+        return errors;
+    }
+
+    synchronized double responsePercentileMillis(double percentile) {
+        return responseTime.getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    synchronized double responseMaxMillis() {
+        return responseTime.getMaxValue() / 1000.0;
+    }
+
+    private static Map<String, Double> percentiles(Histogram histogram) {
+        Map<String, Double> percentiles = new TreeMap<>();
+        percentiles.put("p50", histogram.getValueAtPercentile(50) / 1000.0);
+        percentiles.put("p90", histogram.getValueAtPercentile(90) / 1000.0);
+        percentiles.put("p99", histogram.getValueAtPercentile(99) / 1000.0);
+        percentiles.put("p99.9", histogram.getValueAtPercentile(99.9) / 1000.0);
+        percentiles.put("max", histogram.getMaxValue() / 1000.0);
+        percentiles.put("mean", histogram.getMean() / 1000.0);
+        return percentiles;
+    }
+
+    private static long toMicros(long nanos) {
+        return Math.max(0, TimeUnit.NANOSECONDS.toMicros(nanos));
+    }
+}
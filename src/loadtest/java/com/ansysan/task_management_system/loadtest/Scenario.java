@@ -0,0 +1,56 @@
+package com.ansysan.task_management_system.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A load test read from a scenario file: where to send requests, at what arrival rate, and which
+ * weighted mix of operations to draw each request from.
+ *
+ * @param accounts   named account groups; an operation runs as a random account of its group
+ * @param variables  values drawn per request and substituted into paths and bodies as {@code ${name}}
+ * @param maxInFlight requests allowed to be outstanding; when reached, sending waits, and that wait
+ *                    counts towards the response time of the delayed requests
+ */
+public record Scenario(String name,
+                       String baseUrl,
+                       long seed,
+                       double ratePerSecond,
+                       int warmupSeconds,
+                       int durationSeconds,
+                       int maxInFlight,
+                       int timeoutSeconds,
+                       String tokenField,
+                       Map<String, AccountGroup> accounts,
+                       Map<String, Variable> variables,
+                       List<Operation> operations) {
+
+    /**
+     * Either fixed credentials or {@code register} new accounts through {@code /auth/registration}.
+     */
+    public record AccountGroup(List<Credentials> credentials, int register, String password) {
+    }
+
+    public record Credentials(String username, String email, String password) {
+    }
+
+    /**
+     * An integer drawn from [min, max]; Zipf-distributed when {@code skew} is positive, otherwise uniform.
+     */
+    public record Variable(long min, long max, double skew) {
+    }
+
+    /**
+     * One request kind of the mix. Requests carry the account's bearer token unless {@code auth} is false.
+     */
+    public record Operation(String name,
+                            double weight,
+                            String account,
+                            Boolean auth,
+                            String method,
+                            String path,
+                            JsonNode body) {
+    }
+}
@@ -0,0 +1,57 @@
+package com.ansysan.task_management_system.config;
+
+import com.ansysan.task_management_system.dto.TaskReadDto;
+import com.ansysan.task_management_system.service.UserCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.cache.RedisCacheManagerBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+@Configuration
+public class CacheConfig {
+
+    public static final String TASKS_CACHE = "tasks";
+
+    @Value("${cache.tasks.time-to-live:10m}")
+    private Duration tasksTimeToLive;
+
+    /**
+     * Delivers user cache invalidations published by any node to the local user cache.
+     * Other subscribers register their own listeners on this container.
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                       UserCache userCache) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener((message, pattern) -> userCache.onInvalidationMessage(
+                        new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(UserCache.INVALIDATION_CHANNEL));
+        return container;
+    }
+
+    /**
+     * Evictions are deferred until the surrounding transaction commits,
+     * so a concurrent read can't repopulate the cache with uncommitted state.
+     */
+    @Bean
+    public RedisCacheManagerBuilderCustomizer redisCacheManagerBuilderCustomizer(ObjectMapper objectMapper) {
+        return builder -> builder
+                .transactionAware()
+                .withCacheConfiguration(TASKS_CACHE, RedisCacheConfiguration.defaultCacheConfig()
+                        .entryTtl(tasksTimeToLive)
+                        .disableCachingNullValues()
+                        .serializeValuesWith(SerializationPair.fromSerializer(
+                                new Jackson2JsonRedisSerializer<>(objectMapper, TaskReadDto.class))));
+    }
+}
@@ -0,0 +1,173 @@
+package com.ansysan.task_management_system.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+
+/**
+ * Makes {@code server.compression.min-response-size} apply to message converter responses. Tomcat
+ * only compares a response with the threshold when its length is known at commit, but the
+ * converters flush, and so commit, right after writing the body. Flushes are therefore held back
+ * until the body reaches the threshold: a smaller body stays in the container buffer, gets a
+ * {@code Content-Length} on completion and is sent uncompressed; a larger one is compressed as before.
+ * Writer responses are counted in characters, which never exceed the encoded bytes; a reset of the
+ * response or its buffer discards the count along with the body.
+ */
+@Component
+public class CompressionThresholdFilter extends OncePerRequestFilter {
+    private final boolean enabled;
+    private final long minResponseSize;
+
+    public CompressionThresholdFilter(ServerProperties serverProperties) {
+        this.enabled = serverProperties.getCompression().getEnabled();
+        this.minResponseSize = serverProperties.getCompression().getMinResponseSize().toBytes();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        filterChain.doFilter(request, new ThresholdResponse(response));
+    }
+
+    private final class ThresholdResponse extends HttpServletResponseWrapper {
+        private ServletOutputStream outputStream;
+        private PrintWriter writer;
+        private long written;
+
+        private ThresholdResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (outputStream == null) {
+                outputStream = new CountingOutputStream(super.getOutputStream());
+            }
+            return outputStream;
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            if (writer == null) {
+                writer = new PrintWriter(new CountingWriter(super.getWriter()));
+            }
+            return writer;
+        }
+
+        @Override
+        public void reset() {
+            super.reset();
+            written = 0;
+        }
+
+        @Override
+        public void resetBuffer() {
+            super.resetBuffer();
+            written = 0;
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            if (written >= minResponseSize) {
+                super.flushBuffer();
+            }
+        }
+
+        private final class CountingOutputStream extends ServletOutputStream {
+            private final ServletOutputStream delegate;
+
+            private CountingOutputStream(ServletOutputStream delegate) {
+                this.delegate = delegate;
+            }
+
+            @Override
+            public void write(int b) throws IOException {
+                delegate.write(b);
+                written++;
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                delegate.write(b, off, len);
+                written += len;
+            }
+
+            @Override
+            public void flush() throws IOException {
+                if (written >= minResponseSize) {
+                    delegate.flush();
+                }
+            }
+
+            @Override
+            public void close() throws IOException {
+                delegate.close();
+            }
+
+            @Override
+            public boolean isReady() {
+                return delegate.isReady();
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+                delegate.setWriteListener(writeListener);
+            }
+        }
+
+        private final class CountingWriter extends Writer {
+            private final Writer delegate;
+
+            private CountingWriter(Writer delegate) {
+                this.delegate = delegate;
+            }
+
+            @Override
+            public void write(int c) throws IOException {
+                delegate.write(c);
+                written++;
+            }
+
+            @Override
+            public void write(char[] cbuf, int off, int len) throws IOException {
+                delegate.write(cbuf, off, len);
+                written += len;
+            }
+
+            @Override
+            public void write(String str, int off, int len) throws IOException {
+                delegate.write(str, off, len);
+                written += len;
+            }
+
+            @Override
+            public void flush() throws IOException {
+                if (written >= minResponseSize) {
+                    delegate.flush();
+                }
+            }
+
+            @Override
+            public void close() throws IOException {
+                delegate.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.ansysan.task_management_system.config;
+
+import com.ansysan.task_management_system.service.DatasetGenerator;
+import com.ansysan.task_management_system.service.DatasetGenerator.DatasetSpec;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * Generates the dataset described by the {@code datagen.*} properties and exits.
+ * Started by {@code gradle generateDataset} or by running the application with the datagen profile.
+ */
+@Component
+@Profile("datagen")
+@RequiredArgsConstructor
+public class DatasetGeneratorRunner implements ApplicationRunner {
+    private final DatasetGenerator datasetGenerator;
+    private final ConfigurableApplicationContext context;
+
+    @Value("${datagen.seed}")
+    private long seed;
+
+    @Value("${datagen.users}")
+    private long users;
+
+    @Value("${datagen.tasks}")
+    private long tasks;
+
+    @Value("${datagen.comments}")
+    private long comments;
+
+    @Value("${datagen.performer-skew}")
+    private double performerSkew;
+
+    @Value("${datagen.task-skew}")
+    private double taskSkew;
+
+    @Value("${datagen.days}")
+    private int days;
+
+    @Value("${datagen.until}")
+    private LocalDateTime until;
+
+    @Value("${datagen.batch-size}")
+    private int batchSize;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        datasetGenerator.generate(new DatasetSpec(seed, users, tasks, comments, performerSkew, taskSkew,
+                days, until, batchSize));
+        System.exit(SpringApplication.exit(context, () -> 0));
+    }
+}
@@ -1,66 +1,87 @@
 package com.ansysan.task_management_system.config;
 
-import com.ansysan.task_management_system.service.JwtService;
-import com.ansysan.task_management_system.service.UserDetailsServiceImpl;
-import com.ansysan.task_management_system.service.UserService;
-import io.jsonwebtoken.Claims;
+import com.ansysan.task_management_system.service.JwtTokenCache;
+import com.ansysan.task_management_system.service.JwtTokenCache.VerifiedToken;
+import com.ansysan.task_management_system.service.TokenRevocationService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.NonNull;
-import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.context.SecurityContextHolderStrategy;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.List;
-
-import static java.util.stream.Collectors.toList;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * Authenticates requests carrying a bearer token. The token is verified once (or found in the
+ * verified-token cache) and the authentication is built from its subject and authorities claim,
+ * without loading the user. Revoked tokens are checked against the in-memory revocation mirror.
+ * The verification time is recorded as {@code auth.jwt.verify} tagged by outcome.
+ */
 @Component
-@RequiredArgsConstructor
 public class JwtTokenAuthenticationFilter extends OncePerRequestFilter {
 
-    private final JwtService jwtTokenService;
-    private final UserDetailsServiceImpl userDetailsService;
+    private final JwtTokenCache jwtTokenCache;
+    private final TokenRevocationService tokenRevocationService;
+    private final Timer validTimer;
+    private final Timer invalidTimer;
+    private final Timer revokedTimer;
+
+    public JwtTokenAuthenticationFilter(JwtTokenCache jwtTokenCache,
+                                        TokenRevocationService tokenRevocationService,
+                                        MeterRegistry meterRegistry) {
+        this.jwtTokenCache = jwtTokenCache;
+        this.tokenRevocationService = tokenRevocationService;
+        this.validTimer = verifyTimer(meterRegistry, "valid");
+        this.invalidTimer = verifyTimer(meterRegistry, "invalid");
+        this.revokedTimer = verifyTimer(meterRegistry, "revoked");
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
                                     HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
         final String authHeader = request.getHeader("Authorization");
-        final String jwt;
-        final String email;
         if (authHeader == null || !authHeader.startsWith("Bearer ")) {
             filterChain.doFilter(request, response);
             return;
         }
-        jwt = authHeader.substring(7);
-        email = jwtTokenService.extractUserName(jwt);
-        if (email != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = this.userDetailsService.loadUserByUsername(email);
-            if (jwtTokenService.validateToken(jwt)) {
-                UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken(
+        if (SecurityContextHolder.getContext().getAuthentication() == null) {
+            long start = System.nanoTime();
+            Optional<VerifiedToken> token = jwtTokenCache.verify(authHeader.substring(7));
+            boolean revoked = token.isPresent() && tokenRevocationService.isRevoked(token.get());
+            (token.isEmpty() ? invalidTimer : revoked ? revokedTimer : validTimer)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            if (token.isPresent() && !revoked) {
+                UserDetails userDetails = new User(token.get().subject(), "", token.get().authorities());
+                UsernamePasswordAuthenticationToken authenticationToken = UsernamePasswordAuthenticationToken.authenticated(
                         userDetails,
                         null,
-                        userDetails.getAuthorities()
+                        token.get().authorities()
                 );
                 authenticationToken.setDetails(
                         new WebAuthenticationDetailsSource().buildDetails(request)
                 );
                 SecurityContextHolder.getContext().setAuthentication(authenticationToken);
             }
-
         }
         filterChain.doFilter(request, response);
     }
-}
\ No newline at end of file
+
+    private static Timer verifyTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("auth.jwt.verify")
+                .description("Bearer token verification, including the verified-token cache and revocation check")
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
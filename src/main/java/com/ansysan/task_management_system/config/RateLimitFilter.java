@@ -0,0 +1,104 @@
+package com.ansysan.task_management_system.config;
+
+import com.ansysan.task_management_system.config.RateLimitProperties.Limit;
+import com.ansysan.task_management_system.service.RateLimiter;
+import com.ansysan.task_management_system.service.RateLimiter.Decision;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.regex.Pattern;
+
+/**
+ * Applies a token bucket per user (or client address when unauthenticated) and route. Limits come
+ * from the caller's role; paged reads cost one token per {@code page-size-per-token} rows requested.
+ * Every response carries RateLimit-Limit, RateLimit-Remaining and RateLimit-Reset; rejected
+ * requests get 429 with Retry-After.
+ */
+@Component
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+    private static final Pattern ID_SEGMENT = Pattern.compile("/\\d+(?=/|$)");
+
+    private final RateLimiter rateLimiter;
+    private final RateLimitProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled() || request.getRequestURI().equals("/error");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        boolean anonymous = authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken;
+        String role = anonymous ? RateLimitProperties.ANONYMOUS : role(authentication);
+        Limit limit = properties.getRoles().get(role);
+        if (limit == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String caller = anonymous ? "ip:" + request.getRemoteAddr() : "user:" + authentication.getName();
+        String route = request.getMethod() + " " + ID_SEGMENT.matcher(request.getRequestURI()).replaceAll("/{id}");
+        Decision decision = rateLimiter.tryAcquire(caller + ":" + route, limit, cost(request));
+
+        response.setHeader("RateLimit-Limit", String.valueOf(decision.limit()));
+        response.setHeader("RateLimit-Remaining", String.valueOf(decision.remaining()));
+        response.setHeader("RateLimit-Reset", String.valueOf(decision.resetSeconds()));
+        if (!decision.allowed()) {
+            meterRegistry.counter("rate.limit.rejected", "role", role).increment();
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(decision.retryAfterSeconds()));
+            response.sendError(HttpStatus.TOO_MANY_REQUESTS.value(), "Rate limit exceeded");
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private String role(Authentication authentication) {
+        String role = null;
+        for (GrantedAuthority authority : authentication.getAuthorities()) {
+            String name = authority.getAuthority();
+            if (name != null && name.startsWith("ROLE_") && properties.getRoles().containsKey(name.substring(5))) {
+                Limit limit = properties.getRoles().get(name.substring(5));
+                if (role == null || limit.getCapacity() > properties.getRoles().get(role).getCapacity()) {
+                    role = name.substring(5);
+                }
+            }
+        }
+        return role == null ? RateLimitProperties.ANONYMOUS : role;
+    }
+
+    private long cost(HttpServletRequest request) {
+        if (!HttpMethod.GET.matches(request.getMethod())) {
+            return 1;
+        }
+        String limit = request.getParameter("limit");
+        if (limit == null) {
+            return 1;
+        }
+        try {
+            return Math.max(1, (Long.parseLong(limit.trim()) + properties.getPageSizePerToken() - 1)
+                    / properties.getPageSizePerToken());
+        } catch (NumberFormatException e) {
+            return 1;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.ansysan.task_management_system.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+    public static final String ANONYMOUS = "ANONYMOUS";
+
+    private boolean enabled = true;
+
+    /**
+     * Tokens a node takes from the shared Redis bucket per round trip.
+     */
+    private int leaseSize = 10;
+
+    /**
+     * How long a node may spend leased tokens before returning to Redis.
+     */
+    private Duration leaseTtl = Duration.ofSeconds(1);
+
+    /**
+     * Page size covered by one token; a request with {@code limit=500} costs 5 tokens.
+     */
+    private int pageSizePerToken = 100;
+
+    /**
+     * Limits by role name (ADMIN, USER) and ANONYMOUS for requests without a token.
+     */
+    private Map<String, Limit> roles = new HashMap<>();
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Limit {
+        private long capacity;
+        private double refillPerSecond;
+    }
+}
@@ -1,7 +1,9 @@
 package com.ansysan.task_management_system.config;
 
 import com.ansysan.task_management_system.service.UserDetailsServiceImpl;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpStatus;
@@ -21,6 +23,8 @@ import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.HttpStatusEntryPoint;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import java.time.Duration;
+
 @Configuration
 @EnableWebSecurity
 @EnableMethodSecurity
@@ -29,33 +33,37 @@ public class SecurityConfig {
 
     private final UserDetailsServiceImpl userDetailsService;
     private final JwtTokenAuthenticationFilter jwtRequestFilter;
+    private final RateLimitFilter rateLimitFilter;
 
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity httpSecurity) throws Exception {
         httpSecurity.csrf(AbstractHttpConfigurer::disable)
                 .authorizeHttpRequests(authorize -> authorize
-                        .requestMatchers("/api/auth",
-                                "/api/registration",
+                        .requestMatchers("/auth/authentication",
+                                "/auth/registration",
                                 "/v3/api-docs/**",
                                 "/swagger-ui/index.html",
                                 "/swagger-ui/**",
+                                "/actuator/health",
                                 "/error").permitAll()
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
                         .anyRequest().authenticated())
                 .formLogin(formLogin -> {
                 })
                 .rememberMe(Customizer.withDefaults())
                 .sessionManagement(sm -> sm.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .exceptionHandling(eh -> eh.authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED)))
-                .addFilterBefore(jwtRequestFilter, UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(jwtRequestFilter, UsernamePasswordAuthenticationFilter.class)
+                .addFilterAfter(rateLimitFilter, JwtTokenAuthenticationFilter.class);
 
         return httpSecurity.build();
     }
 
     @Bean
-    public AuthenticationProvider configure() {
+    public AuthenticationProvider configure(PasswordEncoder passwordEncoder) {
         DaoAuthenticationProvider auth = new DaoAuthenticationProvider();
         auth.setUserDetailsService(userDetailsService);
-        auth.setPasswordEncoder(passwordEncoder());
+        auth.setPasswordEncoder(passwordEncoder);
 
         return auth;
     }
@@ -65,8 +73,18 @@ public class SecurityConfig {
         return config.getAuthenticationManager();
     }
 
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder(8);
+    /**
+     * BCrypt hashing runs on a dedicated bounded pool, see {@link BoundedPasswordEncoder}.
+     * Zero threads means one per available processor.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public PasswordEncoder passwordEncoder(@Value("${security.password-hashing.threads:0}") int threads,
+                                           @Value("${security.password-hashing.queue-capacity:64}") int queueCapacity,
+                                           @Value("${security.password-hashing.timeout:PT5S}") Duration timeout,
+                                           @Value("${security.password-hashing.retry-after:PT2S}") Duration retryAfter,
+                                           MeterRegistry meterRegistry) {
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(8),
+                threads > 0 ? threads : Runtime.getRuntime().availableProcessors(),
+                queueCapacity, timeout, retryAfter, meterRegistry);
     }
 }
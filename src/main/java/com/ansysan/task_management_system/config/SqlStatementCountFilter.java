@@ -0,0 +1,80 @@
+package com.ansysan.task_management_system.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.web.util.OnCommittedResponseWrapper;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Counts the Hibernate statements of each request. The count is sent in the
+ * {@code X-SQL-Statement-Count} header just before the response commits, recorded in the
+ * {@code http.server.requests.sql.statements} summary per route, and logged as a warning with the
+ * most repeated statement when it exceeds {@code sql.statements.warn-threshold} - the usual sign
+ * of a lazy association loaded row by row.
+ */
+@Component
+@Slf4j
+public class SqlStatementCountFilter extends OncePerRequestFilter {
+    public static final String HEADER = "X-SQL-Statement-Count";
+
+    private final MeterRegistry meterRegistry;
+    private final int warnThreshold;
+    private final boolean header;
+
+    public SqlStatementCountFilter(MeterRegistry meterRegistry,
+                                   @Value("${sql.statements.warn-threshold:10}") int warnThreshold,
+                                   @Value("${sql.statements.header:true}") boolean header) {
+        this.meterRegistry = meterRegistry;
+        this.warnThreshold = warnThreshold;
+        this.header = header;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        try (SqlStatementCounter.Scope scope = SqlStatementCounter.start()) {
+            HttpServletResponse counted = header ? new OnCommittedResponseWrapper(response) {
+                @Override
+                protected void onResponseCommitted() {
+                    setHeader(HEADER, String.valueOf(scope.count()));
+                }
+            } : response;
+            try {
+                filterChain.doFilter(request, counted);
+            } finally {
+                if (header && !response.isCommitted()) {
+                    response.setHeader(HEADER, String.valueOf(scope.count()));
+                }
+                record(request, scope);
+            }
+        }
+    }
+
+    private void record(HttpServletRequest request, SqlStatementCounter.Scope scope) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern == null ? "UNKNOWN" : pattern.toString();
+        DistributionSummary.builder("http.server.requests.sql.statements")
+                .description("Hibernate statements executed per request")
+                .tags("method", request.getMethod(), "uri", uri)
+                .register(meterRegistry)
+                .record(scope.count());
+
+        if (scope.count() > warnThreshold) {
+            Map.Entry<String, Integer> repeated = scope.mostRepeated();
+            log.warn("{} {} ran {} SQL statements, {} of them: {}", request.getMethod(), uri, scope.count(),
+                    repeated.getValue(), repeated.getKey());
+        }
+    }
+}
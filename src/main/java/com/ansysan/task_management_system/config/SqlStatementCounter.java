@@ -0,0 +1,89 @@
+package com.ansysan.task_management_system.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread while a {@link Scope} is open.
+ * Statements are grouped by shape (whitespace collapsed, IN lists folded) so a lazy association
+ * loaded once per row shows up as one shape repeated many times. Scopes nest: a statement counts
+ * towards every open scope of the thread. Plain JDBC access through {@code JdbcTemplate} is not
+ * seen here.
+ */
+public class SqlStatementCounter implements StatementInspector {
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern PARAMETER_LIST = Pattern.compile("\\(\\?(?:\\s*,\\s*\\?)+\\)");
+
+    @Override
+    public String inspect(String sql) {
+        Scope scope = CURRENT.get();
+        if (scope != null) {
+            String shape = shapeOf(sql);
+            for (Scope open = scope; open != null; open = open.parent) {
+                open.record(shape);
+            }
+        }
+        return sql;
+    }
+
+    /**
+     * Opens a counting scope on the current thread; close it to restore the enclosing one.
+     */
+    public static Scope start() {
+        Scope scope = new Scope(CURRENT.get());
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    static String shapeOf(String sql) {
+        String shape = WHITESPACE.matcher(sql.trim()).replaceAll(" ");
+        return PARAMETER_LIST.matcher(shape).replaceAll("(?...)");
+    }
+
+    public static final class Scope implements AutoCloseable {
+        private final Scope parent;
+        private final Map<String, Integer> shapes = new HashMap<>();
+        private int count;
+
+        private Scope(Scope parent) {
+            this.parent = parent;
+        }
+
+        private void record(String shape) {
+            count++;
+            shapes.merge(shape, 1, Integer::sum);
+        }
+
+        public int count() {
+            return count;
+        }
+
+        public Map<String, Integer> shapes() {
+            return Map.copyOf(shapes);
+        }
+
+        /**
+         * The most frequent statement shape with its count, or null when nothing ran.
+         */
+        public Map.Entry<String, Integer> mostRepeated() {
+            return shapes.entrySet().stream()
+                    .max(Map.Entry.comparingByValue(Comparator.naturalOrder()))
+                    .map(entry -> Map.entry(entry.getKey(), entry.getValue()))
+                    .orElse(null);
+        }
+
+        @Override
+        public void close() {
+            if (parent == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(parent);
+            }
+        }
+    }
+}
@@ -1,19 +1,26 @@
 package com.ansysan.task_management_system.controller;
 
+import com.ansysan.task_management_system.dto.CursorPageDto;
 import com.ansysan.task_management_system.dto.UserReadDto;
 import com.ansysan.task_management_system.service.AdminService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
-
-import java.util.List;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("admin")
@@ -52,18 +59,46 @@ public class AdminController {
     }
 
     /**
-     * Возвращает список всех пользователей.
+     * Возвращает страницу пользователей по курсору.
+     *
+     * Пользователи возвращаются в порядке возрастания идентификатора. Для первой страницы
+     * курсор передается пустым, для следующих - значение nextCursor из предыдущего ответа.
      *
-     * @return Ответ со списком объектов {@link UserReadDto}, представляющих пользователей.
+     * @param cursor непрозрачный курсор следующей страницы
+     * @param size размер страницы (количество пользователей на странице)
+     * @return срез объектов {@link UserReadDto} и курсор следующей страницы
      */
     @GetMapping("/users")
     @PreAuthorize("hasRole('ADMIN')")
     @Operation(
-            summary = "Retrieve all users",
-            description = "Collect all users. The answer is an array of users with identifier, username and role for each of the array element",
+            summary = "Retrieve users by cursor",
+            description = "Scroll through all users in id order using keyset pagination. The answer is a page of users with identifier, username and email and the cursor of the next page",
+            tags = "get"
+    )
+    @SecurityRequirement(name = "JWT")
+    @ResponseStatus(HttpStatus.OK)
+    public CursorPageDto<UserReadDto> getUsers(@RequestParam(value = "cursor", defaultValue = "") String cursor,
+                                               @RequestParam(value = "limit", defaultValue = "100") int size) {
+        return adminService.getUsers(cursor, size);
+    }
+
+    /**
+     * Потоковая выгрузка всех пользователей в формате NDJSON.
+     *
+     * @return поток с пользователями, по одному JSON-объекту в строке
+     */
+    @GetMapping("/users/export")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(
+            summary = "Export users",
+            description = "Stream all users in id order as newline-delimited JSON",
             tags = "get"
     )
-    public List<UserReadDto> getAllUsers() {
-        return adminService.getAllUsers();
+    @SecurityRequirement(name = "JWT")
+    public ResponseEntity<StreamingResponseBody> exportUsers() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"users.ndjson\"")
+                .body(adminService::exportUsers);
     }
-}
\ No newline at end of file
+}
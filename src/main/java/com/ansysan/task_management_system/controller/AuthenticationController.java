@@ -6,14 +6,20 @@ import com.ansysan.task_management_system.service.AuthenticationService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.util.UriComponentsBuilder;
 
@@ -81,4 +87,41 @@ public class AuthenticationController {
                 .contentType(MediaType.APPLICATION_JSON)
                 .body(response);
     }
-}
\ No newline at end of file
+
+    /**
+     * Выход из системы.
+     *
+     * Этот метод отзывает токен, переданный в заголовке Authorization.
+     * Отозванный токен перестает приниматься всеми узлами до истечения его срока действия.
+     *
+     * @param authorization заголовок Authorization с токеном
+     */
+    @Operation(
+            summary = "Logout user",
+            description = "Allows you to revoke the token of the current request"
+    )
+    @PostMapping(value = "/logout")
+    @SecurityRequirement(name = "JWT")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void logout(@RequestHeader(HttpHeaders.AUTHORIZATION) String authorization) {
+        service.logout(authorization.substring("Bearer ".length()));
+    }
+
+    /**
+     * Отзыв всех токенов текущего пользователя.
+     *
+     * Все токены, выданные пользователю до этого момента, перестают приниматься.
+     *
+     * @param authentication текущий пользователь
+     */
+    @Operation(
+            summary = "Revoke all tokens",
+            description = "Allows you to revoke all tokens issued to the current user so far"
+    )
+    @PostMapping(value = "/revoke-all")
+    @SecurityRequirement(name = "JWT")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void revokeAll(Authentication authentication) {
+        service.revokeAll(authentication.getName());
+    }
+}
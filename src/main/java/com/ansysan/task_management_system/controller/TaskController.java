@@ -1,7 +1,19 @@
 package com.ansysan.task_management_system.controller;
 
+import com.ansysan.task_management_system.config.JacksonConfig;
+import com.ansysan.task_management_system.dto.CursorPageDto;
+import com.ansysan.task_management_system.dto.TaskBulkCreateResultDto;
+import com.ansysan.task_management_system.dto.TaskBulkUpdateDto;
+import com.ansysan.task_management_system.dto.TaskBulkUpdateResultDto;
 import com.ansysan.task_management_system.dto.TaskCreateDto;
+import com.ansysan.task_management_system.dto.TaskFileFormat;
+import com.ansysan.task_management_system.dto.TaskFilterDto;
+import com.ansysan.task_management_system.dto.TaskImportResultDto;
 import com.ansysan.task_management_system.dto.TaskReadDto;
+import com.ansysan.task_management_system.exception.PreconditionFailedException;
+import com.ansysan.task_management_system.service.TaskBulkService;
+import com.ansysan.task_management_system.service.TaskExportService;
+import com.ansysan.task_management_system.service.TaskImportService;
 import com.ansysan.task_management_system.service.TaskService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -10,15 +22,36 @@ import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
+import org.springframework.web.accept.ContentNegotiationManager;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequiredArgsConstructor
 @Slf4j
 public class TaskController {
+    private static final List<MediaType> TASK_FORMATS =
+            List.of(MediaType.APPLICATION_JSON, JacksonConfig.APPLICATION_SMILE, MediaType.APPLICATION_CBOR);
+
     private final TaskService taskService;
+    private final TaskBulkService taskBulkService;
+    private final TaskExportService taskExportService;
+    private final TaskImportService taskImportService;
+    private final ContentNegotiationManager contentNegotiationManager;
 
     /**
     * Создание новой задачи.
@@ -44,6 +77,68 @@ public class TaskController {
         return taskService.createTask(taskDto, email);
     }
 
+    /**
+     * Массовое создание задач из JSON-массива.
+     *
+     * Каждый элемент валидируется отдельно, исполнители загружаются одним запросом,
+     * а задачи вставляются пакетами. Невалидные элементы не прерывают запрос.
+     *
+     * @param taskDtos данные для создания задач
+     * @param email email автора задач
+     * @return результат по каждому элементу запроса
+     */
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(
+            summary = "Create tasks in bulk",
+            description = "Allows you to create many tasks from a JSON array with a result per item"
+    )
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @SecurityRequirement(name = "JWT")
+    @ResponseStatus(HttpStatus.OK)
+    public TaskBulkCreateResultDto createTasks(@RequestBody List<TaskCreateDto> taskDtos, String email){
+        return taskBulkService.createTasks(taskDtos, email);
+    }
+
+    /**
+     * Массовое создание задач из NDJSON (одна задача в строке).
+     *
+     * @param body тело запроса в формате NDJSON
+     * @param email email автора задач
+     * @return результат по каждой строке запроса
+     */
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(
+            summary = "Create tasks in bulk from NDJSON",
+            description = "Allows you to create many tasks from newline-delimited JSON with a result per line"
+    )
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    @SecurityRequirement(name = "JWT")
+    @ResponseStatus(HttpStatus.OK)
+    public TaskBulkCreateResultDto createTasksFromNdjson(InputStream body, String email){
+        return taskBulkService.createTasks(body, email);
+    }
+
+    /**
+     * Массовый перевод задач в новый статус, приоритет или на другого исполнителя.
+     *
+     * Задачи выбираются по списку идентификаторов или по фильтру и обновляются
+     * set-based запросами UPDATE порциями, без загрузки каждой задачи.
+     *
+     * @param updateDto выбор задач и целевые значения
+     * @return количество измененных задач
+     */
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(
+            summary = "Update tasks in bulk",
+            description = "Allows you to move tasks selected by ids or by a filter to a new status, priority or performer"
+    )
+    @PatchMapping("/bulk")
+    @SecurityRequirement(name = "JWT")
+    @ResponseStatus(HttpStatus.OK)
+    public TaskBulkUpdateResultDto updateTasks(@Valid @RequestBody TaskBulkUpdateDto updateDto){
+        return taskBulkService.updateTasks(updateDto);
+    }
+
     /**
      * Изменение существующей задачи.
      *
@@ -51,8 +146,13 @@ public class TaskController {
      * вызывает сервис для обновления задачи и возвращает
      * обновленный объект задачи.
      *
+     * Если передан заголовок If-Match, задача изменяется только при совпадении
+     * ее текущей версии с ETag клиента, иначе возвращается код 412, а закэшированная
+     * копия задачи вытесняется, чтобы следующий GET вернул актуальную версию.
+     *
      * @param taskId идентификатор задачи, которую нужно изменить
      * @param taskDto данные для обновления задачи
+     * @param ifMatch заголовок If-Match с ETag, полученным клиентом ранее
      * @return объект обновленной задачи
      */
     @PreAuthorize("hasRole('ADMIN')")
@@ -63,10 +163,20 @@ public class TaskController {
     @PatchMapping("/{id}")
     @SecurityRequirement(name = "JWT")
     @ResponseStatus(HttpStatus.OK)
-    public TaskReadDto changeTask(@PathVariable("id") Long taskId,
-                           @Valid @RequestBody TaskCreateDto taskDto){
-
-       return taskService.updateTask(taskId, taskDto);
+    public ResponseEntity<TaskReadDto> changeTask(@PathVariable("id") Long taskId,
+                                                  @Valid @RequestBody TaskCreateDto taskDto,
+                                                  @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                                  NativeWebRequest request) throws HttpMediaTypeNotAcceptableException {
+        TaskReadDto task;
+        try {
+            task = taskService.updateTask(taskId, taskDto, expectedVersion(taskId, ifMatch));
+        } catch (PreconditionFailedException e) {
+            taskService.evictTask(taskId);
+            throw e;
+        }
+        return ResponseEntity.ok()
+                .eTag(taskETag(task.getId(), task.getVersion(), taskFormat(request), false))
+                .body(task);
     }
 
     /**
@@ -112,24 +222,85 @@ public class TaskController {
         return taskService.getAllTasks(page, size);
     }
 
+    /**
+     * Получение всех существующих задач по курсору.
+     *
+     * Этот метод возвращает задачи в порядке убывания даты создания
+     * без подсчета общего количества. Для первой страницы курсор
+     * передается пустым, для следующих - значение nextCursor из предыдущего ответа.
+     *
+     * @param cursor непрозрачный курсор следующей страницы
+     * @param size размер страницы (количество задач на странице)
+     * @return срез объектов задач и курсор следующей страницы
+     */
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(
+            summary = "Search all tasks by cursor",
+            description = "Allows you to scroll through all existing tasks using keyset pagination"
+    )
+    @GetMapping(params = "cursor")
+    @SecurityRequirement(name = "JWT")
+    @ResponseStatus(HttpStatus.OK)
+    public CursorPageDto<TaskReadDto> getAllTasksByCursor(@RequestParam(value = "cursor", defaultValue = "") String cursor,
+                                                          @NotNull @RequestParam(value = "limit") int size){
+        return taskService.getAllTasks(cursor, size);
+    }
+
     /**
      * Получение задачи по ее идентификатору.
      *
      * Этот метод возвращает задачу с указанным идентификатором.
+     * Ответ содержит ETag с версией задачи, форматом ответа (JSON, Smile или CBOR)
+     * и признаком загрузки комментариев; если ETag совпадает с заголовком
+     * If-None-Match, возвращается код 304 без загрузки и сериализации задачи:
+     * для проверки читается только столбец версии. Если закэшированная копия
+     * старше прочитанной версии, она вытесняется и задача загружается заново.
+     * Комментарии задачи загружаются и возвращаются только при expand=comments.
      *
      * @param taskId идентификатор задачи, которую нужно получить
+     * @param expand список дополнительно загружаемых связей, поддерживается comments
+     * @param ifNoneMatch заголовок If-None-Match с ETag, полученным клиентом ранее
      * @return объект найденной задачи
      */
     @PreAuthorize("hasRole('ADMIN')")
     @Operation(
             summary = "Search task",
-            description = "Allows you to find a task by its id"
+            description = "Allows you to find a task by its id; pass expand=comments to include its comments"
     )
     @GetMapping("/{id}")
     @SecurityRequirement(name = "JWT")
     @ResponseStatus(HttpStatus.OK)
-    public TaskReadDto getTaskById(@PathVariable("id") Long taskId){
-        return taskService.getTask(taskId);
+    public ResponseEntity<TaskReadDto> getTaskById(@PathVariable("id") Long taskId,
+                                                   @RequestParam(value = "expand", defaultValue = "") List<String> expand,
+                                                   @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                                                   NativeWebRequest request) throws HttpMediaTypeNotAcceptableException {
+        String format = taskFormat(request);
+        boolean comments = expand.contains("comments");
+        Long version = null;
+        if (ifNoneMatch != null && !ifNoneMatch.isBlank()) {
+            version = taskService.getTaskVersion(taskId);
+            String eTag = taskETag(taskId, version, format, comments);
+            if (entityTags(ifNoneMatch).stream()
+                    .anyMatch(tag -> tag.equals("*") || tag.replaceFirst("^W/", "").equals(eTag))) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .eTag(eTag)
+                        .varyBy(HttpHeaders.ACCEPT)
+                        .build();
+            }
+        }
+        TaskReadDto task;
+        if (comments) {
+            task = taskService.getTaskWithComments(taskId);
+        } else {
+            task = taskService.getTask(taskId);
+            if (version != null && !version.equals(task.getVersion())) {
+                taskService.evictTask(taskId);
+                task = taskService.getTask(taskId);
+            }
+        }
+        return ResponseEntity.ok()
+                .eTag(taskETag(task.getId(), task.getVersion(), format, comments))
+                .body(task);
     }
 
     /**
@@ -157,6 +328,149 @@ public class TaskController {
         return taskService.getTasksByAuthorId(page, size, authorId);
     }
 
+    /**
+     * Получение задач автора по курсору.
+     *
+     * @param authorId идентификатор автора задач
+     * @param cursor непрозрачный курсор следующей страницы
+     * @param size размер страницы (количество задач на странице)
+     * @return срез объектов задач, созданных автором, и курсор следующей страницы
+     */
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(
+            summary = "Search for author tasks by cursor",
+            description = "Allows you to scroll through tasks created by the author using keyset pagination"
+    )
+    @GetMapping(value = "/author/{id}", params = "cursor")
+    @SecurityRequirement(name = "JWT")
+    @ResponseStatus(HttpStatus.OK)
+    public CursorPageDto<TaskReadDto> getTasksByAuthorIdByCursor(@PathVariable("id") Long authorId,
+                                                                 @RequestParam(value = "cursor", defaultValue = "") String cursor,
+                                                                 @NotNull @RequestParam(value = "limit") int size){
+        return taskService.getTasksByAuthorId(cursor, size, authorId);
+    }
+
+    /**
+     * Поиск задач по набору необязательных критериев.
+     *
+     * Фильтр объединяет статус, приоритет, автора, исполнителя и диапазоны дат
+     * создания и изменения. В запрос попадают только заданные критерии.
+     *
+     * @param filter критерии фильтрации и сортировки
+     * @param page номер страницы (смещение)
+     * @param size размер страницы (количество задач на странице)
+     * @return страница объектов задач, подходящих под фильтр
+     */
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(
+            summary = "Filter tasks",
+            description = "Allows you to find tasks by status, priority, author, performer and date ranges with a chosen sort"
+    )
+    @GetMapping("/filter")
+    @SecurityRequirement(name = "JWT")
+    @ResponseStatus(HttpStatus.OK)
+    public Page<TaskReadDto> filterTasks(@Valid TaskFilterDto filter,
+                                         @NotNull @RequestParam(value = "offset", defaultValue = "0") int page,
+                                         @NotNull @RequestParam(value = "limit") int size){
+        return taskService.filterTasks(filter, page, size);
+    }
+
+    /**
+     * Потоковая выгрузка задач в формате NDJSON или CSV.
+     *
+     * Задачи читаются курсором базы данных и сразу пишутся в ответ, поэтому
+     * память не зависит от размера таблицы. Ответ сжимается gzip, если клиент
+     * его поддерживает. Параметры сортировки фильтра игнорируются, задачи
+     * выгружаются в порядке идентификаторов.
+     *
+     * @param filter критерии фильтрации
+     * @param format формат выгрузки: ndjson или csv
+     * @param acceptEncoding заголовок Accept-Encoding клиента
+     * @return поток с выгруженными задачами
+     */
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(
+            summary = "Export tasks",
+            description = "Allows you to stream all tasks matching a filter as NDJSON or CSV, gzip-compressed when accepted"
+    )
+    @GetMapping("/export")
+    @SecurityRequirement(name = "JWT")
+    public ResponseEntity<StreamingResponseBody> exportTasks(@Valid TaskFilterDto filter,
+                                                             @RequestParam(value = "format", defaultValue = "ndjson") String format,
+                                                             @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding){
+        TaskFileFormat exportFormat = TaskFileFormat.of(format);
+        boolean gzip = acceptsGzip(acceptEncoding);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(exportFormat == TaskFileFormat.CSV
+                        ? new MediaType("text", "csv") : MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"tasks." + exportFormat.name().toLowerCase() + "\"")
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(out -> taskExportService.export(filter, exportFormat,
+                gzip ? new GZIPOutputStream(out, 64 * 1024) : out));
+    }
+
+    /**
+     * Потоковый импорт задач из CSV или NDJSON.
+     *
+     * Строки читаются по одной и записываются порциями через COPY. После каждой порции
+     * сохраняется контрольная точка, поэтому повторная загрузка того же файла с тем же
+     * идентификатором импорта продолжит работу с места остановки.
+     *
+     * @param body тело запроса с задачами
+     * @param format формат файла: ndjson или csv
+     * @param importId идентификатор импорта для возобновления (необязательно)
+     * @return итоги импорта с отклоненными строками
+     */
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(
+            summary = "Import tasks",
+            description = "Allows you to stream tasks from CSV or NDJSON with resumable checkpoints and a summary of rejected rows"
+    )
+    @PostMapping("/import")
+    @SecurityRequirement(name = "JWT")
+    @ResponseStatus(HttpStatus.OK)
+    public TaskImportResultDto importTasks(InputStream body,
+                                           @RequestParam(value = "format", defaultValue = "ndjson") String format,
+                                           @RequestParam(value = "importId", required = false) String importId){
+        return taskImportService.importTasks(body, TaskFileFormat.of(format), importId);
+    }
+
+    /**
+     * Полнотекстовый поиск задач по заголовку, описанию и тексту комментариев.
+     *
+     * Результаты упорядочены по релевантности и выдаются постранично по курсору.
+     * Дополнительно можно ограничить выборку статусом, приоритетом и исполнителем.
+     *
+     * @param query поисковый запрос
+     * @param status статус задачи (необязательно)
+     * @param priority приоритет задачи (необязательно)
+     * @param performerId идентификатор исполнителя (необязательно)
+     * @param cursor непрозрачный курсор следующей страницы
+     * @param size размер страницы (количество задач на странице)
+     * @return срез найденных задач и курсор следующей страницы
+     */
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(
+            summary = "Search tasks",
+            description = "Allows you to search tasks by header, description and comment text with ranked, cursor-paged results"
+    )
+    @GetMapping("/search")
+    @SecurityRequirement(name = "JWT")
+    @ResponseStatus(HttpStatus.OK)
+    public CursorPageDto<TaskReadDto> searchTasks(@RequestParam(value = "query") String query,
+                                                  @RequestParam(value = "status", required = false) String status,
+                                                  @RequestParam(value = "priority", required = false) String priority,
+                                                  @RequestParam(value = "performerId", required = false) Long performerId,
+                                                  @RequestParam(value = "cursor", defaultValue = "") String cursor,
+                                                  @NotNull @RequestParam(value = "limit") int size){
+        return taskService.searchTasks(query, status, priority, performerId, cursor, size);
+    }
+
     /**
      * Получение всех задач, назначенных исполнителю по его идентификатору.
      *
@@ -181,4 +495,86 @@ public class TaskController {
                                                     @NotNull @RequestParam(value = "limit") int size){
         return taskService.getTasksByPerformedId(page, size, performerId);
     }
+
+    /**
+     * Получение задач исполнителя по курсору.
+     *
+     * @param performerId идентификатор исполнителя задач
+     * @param cursor непрозрачный курсор следующей страницы
+     * @param size размер страницы (количество задач на странице)
+     * @return срез объектов задач, назначенных исполнителю, и курсор следующей страницы
+     */
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(
+            summary = "Search for tasks by performer by cursor",
+            description = "Allows you to scroll through tasks assigned to a performer using keyset pagination"
+    )
+    @GetMapping(value = "/performer/{id}", params = "cursor")
+    @SecurityRequirement(name = "JWT")
+    @ResponseStatus(HttpStatus.OK)
+    public CursorPageDto<TaskReadDto> getTasksByPerformerIdByCursor(@PathVariable("id") Long performerId,
+                                                                    @RequestParam(value = "cursor", defaultValue = "") String cursor,
+                                                                    @NotNull @RequestParam(value = "limit") int size){
+        return taskService.getTasksByPerformedId(cursor, size, performerId);
+    }
+
+    /**
+     * Returns a strong ETag for one representation of the task: {@code "<id>-<version>-<format>"},
+     * with {@code -comments} appended when the comments are included.
+     */
+    private static String taskETag(Long taskId, Long version, String format, boolean comments){
+        return "\"" + taskId + "-" + version + "-" + format + (comments ? "-comments" : "") + "\"";
+    }
+
+    /**
+     * Picks the task format Spring MVC will write for the request's Accept header, by the same
+     * specificity and quality order, so the ETag is known before the body is written.
+     */
+    private String taskFormat(NativeWebRequest request) throws HttpMediaTypeNotAcceptableException {
+        List<MediaType> accepted = new ArrayList<>(contentNegotiationManager.resolveMediaTypes(request));
+        MimeTypeUtils.sortBySpecificity(accepted);
+        return accepted.stream()
+                .flatMap(type -> TASK_FORMATS.stream().filter(type::includes))
+                .findFirst()
+                .orElse(MediaType.APPLICATION_JSON)
+                .getSubtype();
+    }
+
+    /**
+     * Returns the version named by the If-Match header, {@code null} when the header is absent
+     * or {@code *}. A tag of any representation of the task names its version. Weak tags never
+     * match, as If-Match requires strong comparison.
+     */
+    private static Long expectedVersion(Long taskId, String ifMatch){
+        if (ifMatch == null || ifMatch.isBlank()) {
+            return null;
+        }
+        List<String> tags = entityTags(ifMatch);
+        if (tags.contains("*")) {
+            return null;
+        }
+        String prefix = "\"" + taskId + "-";
+        return tags.stream()
+                .filter(tag -> tag.startsWith(prefix) && tag.endsWith("\""))
+                .map(tag -> tag.substring(prefix.length(), tag.length() - 1))
+                .map(rest -> rest.indexOf('-') < 0 ? rest : rest.substring(0, rest.indexOf('-')))
+                .filter(version -> version.matches("\\d{1,18}"))
+                .map(Long::valueOf)
+                .findFirst()
+                .orElseThrow(() -> new PreconditionFailedException(
+                        String.format("If-Match does not name a version of task %s", taskId)));
+    }
+
+    private static List<String> entityTags(String header){
+        return Arrays.stream(header.split(","))
+                .map(String::trim)
+                .filter(tag -> !tag.isEmpty())
+                .toList();
+    }
+
+    private boolean acceptsGzip(String acceptEncoding){
+        return acceptEncoding != null && Arrays.stream(acceptEncoding.split(","))
+                .map(String::trim)
+                .anyMatch(encoding -> encoding.equals("gzip") || encoding.startsWith("gzip;") && !encoding.matches("gzip;\\s*q=0(\\.0*)?"));
+    }
 }
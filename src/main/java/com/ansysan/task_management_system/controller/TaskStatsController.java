@@ -0,0 +1,72 @@
+package com.ansysan.task_management_system.controller;
+
+import com.ansysan.task_management_system.dto.TaskStatsDto;
+import com.ansysan.task_management_system.service.TaskStatsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@Slf4j
+public class TaskStatsController {
+    private final TaskStatsService taskStatsService;
+
+    /**
+     * Получение количества задач по статусам и приоритетам для всех исполнителей.
+     *
+     * Данные читаются из таблицы счетчиков и не требуют пересчета задач.
+     *
+     * @return статистика задач по каждому исполнителю
+     */
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(
+            summary = "Task statistics",
+            description = "Allows you to get task counts by status and priority for every performer"
+    )
+    @GetMapping("/stats")
+    @SecurityRequirement(name = "JWT")
+    @ResponseStatus(HttpStatus.OK)
+    public List<TaskStatsDto> getStats(){
+        return taskStatsService.getStats();
+    }
+
+    /**
+     * Получение количества задач исполнителя по статусам и приоритетам.
+     *
+     * @param performerId идентификатор исполнителя задач
+     * @return статистика задач исполнителя
+     */
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(
+            summary = "Task statistics of a performer",
+            description = "Allows you to get task counts by status and priority for a performer by their id"
+    )
+    @GetMapping("/stats/performer/{id}")
+    @SecurityRequirement(name = "JWT")
+    @ResponseStatus(HttpStatus.OK)
+    public TaskStatsDto getStatsByPerformerId(@PathVariable("id") Long performerId){
+        return taskStatsService.getStats(performerId);
+    }
+
+    /**
+     * Сверка счетчиков задач с таблицей задач без блокировки записи задач.
+     */
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(
+            summary = "Rebuild task statistics",
+            description = "Allows you to reconcile all task counters with the tasks table without blocking task writes"
+    )
+    @PostMapping("/stats/rebuild")
+    @SecurityRequirement(name = "JWT")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void rebuildStats(){
+        taskStatsService.rebuild();
+    }
+}
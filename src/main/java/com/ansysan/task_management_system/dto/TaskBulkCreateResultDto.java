@@ -0,0 +1,18 @@
+package com.ansysan.task_management_system.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class TaskBulkCreateResultDto {
+    private int created;
+    private int rejected;
+    private List<TaskBulkItemResultDto> items;
+}
@@ -0,0 +1,19 @@
+package com.ansysan.task_management_system.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class TaskBulkItemResultDto {
+    private int index;
+    private Long id;
+    private boolean created;
+    private List<String> errors;
+}
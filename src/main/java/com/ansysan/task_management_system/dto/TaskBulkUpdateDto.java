@@ -0,0 +1,45 @@
+package com.ansysan.task_management_system.dto;
+
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Selects tasks either by {@code ids} or by the filter fields and moves them to the target values.
+ * Unset target fields are left untouched.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class TaskBulkUpdateDto {
+    @Size(max = 100000)
+    private List<@Positive Long> ids;
+
+    @Pattern(regexp = "(PENDING|PROGRESS|COMPLETED)")
+    private String status;
+
+    @Pattern(regexp = "(LOW|MIDDLE|HIGH)")
+    private String priority;
+
+    @Positive
+    private Long authorId;
+
+    @Positive
+    private Long performerId;
+
+    @Pattern(regexp = "(PENDING|PROGRESS|COMPLETED)")
+    private String targetStatus;
+
+    @Pattern(regexp = "(LOW|MIDDLE|HIGH)")
+    private String targetPriority;
+
+    @Positive
+    private Long targetPerformerId;
+}
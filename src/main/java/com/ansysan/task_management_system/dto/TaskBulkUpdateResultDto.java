@@ -0,0 +1,15 @@
+package com.ansysan.task_management_system.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class TaskBulkUpdateResultDto {
+    private int affected;
+    private int chunks;
+}
@@ -1,5 +1,6 @@
 package com.ansysan.task_management_system.dto;
 
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -12,9 +13,11 @@ import lombok.NoArgsConstructor;
 @Builder
 public class TaskCreateDto {
     @NotBlank
+    @Size(max = 100)
     private String header;
 
     @NotBlank
+    @Size(max = 200)
     private String description;
 
     @NotEmpty
@@ -28,6 +31,6 @@ public class TaskCreateDto {
     private String priority;
 
     @NotNull
-    @Positive
+    @Valid
     private UserReadDto performerId;
 }
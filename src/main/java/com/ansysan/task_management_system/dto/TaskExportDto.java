@@ -0,0 +1,32 @@
+package com.ansysan.task_management_system.dto;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Flat task row for exports. The property order is the CSV column order.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@JsonPropertyOrder({"id", "header", "description", "status", "priority", "createdTime", "updatedTime",
+        "authorId", "authorEmail", "performerId", "performerEmail"})
+public class TaskExportDto {
+    private Long id;
+    private String header;
+    private String description;
+    private String status;
+    private String priority;
+    private LocalDateTime createdTime;
+    private LocalDateTime updatedTime;
+    private Long authorId;
+    private String authorEmail;
+    private Long performerId;
+    private String performerEmail;
+}
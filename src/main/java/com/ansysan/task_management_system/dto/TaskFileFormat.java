@@ -0,0 +1,18 @@
+package com.ansysan.task_management_system.dto;
+
+import com.ansysan.task_management_system.exception.DataValidationException;
+
+/**
+ * Line-oriented file formats supported by task export and import.
+ */
+public enum TaskFileFormat {
+    NDJSON, CSV;
+
+    public static TaskFileFormat of(String format) {
+        try {
+            return valueOf(format.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new DataValidationException("Unsupported file format: " + format);
+        }
+    }
+}
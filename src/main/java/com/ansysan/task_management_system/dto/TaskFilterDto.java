@@ -0,0 +1,55 @@
+package com.ansysan.task_management_system.dto;
+
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+
+/**
+ * Optional task filter criteria. Only the fields that are set end up as predicates.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class TaskFilterDto {
+    @Pattern(regexp = "(PENDING|PROGRESS|COMPLETED)")
+    private String status;
+
+    @Pattern(regexp = "(LOW|MIDDLE|HIGH)")
+    private String priority;
+
+    @Positive
+    private Long authorId;
+
+    @Positive
+    private Long performerId;
+
+    /**
+     * Only tasks that are not COMPLETED yet.
+     */
+    private Boolean open;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime createdFrom;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime createdTo;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime updatedFrom;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime updatedTo;
+
+    @Pattern(regexp = "(createdDate|updatedDate|status|priority)")
+    private String sort;
+
+    @Pattern(regexp = "(?i)(asc|desc)")
+    private String direction;
+}
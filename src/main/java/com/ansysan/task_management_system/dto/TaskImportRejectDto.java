@@ -0,0 +1,17 @@
+package com.ansysan.task_management_system.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class TaskImportRejectDto {
+    private long row;
+    private List<String> errors;
+}
@@ -0,0 +1,26 @@
+package com.ansysan.task_management_system.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Counters cover this request only, {@code resumedFrom} is the number of rows skipped from earlier runs.
+ * {@code rejects} is capped, {@code rejected} is always the full count.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class TaskImportResultDto {
+    private String importId;
+    private long resumedFrom;
+    private long processed;
+    private long imported;
+    private long rejected;
+    private boolean completed;
+    private List<TaskImportRejectDto> rejects;
+}
@@ -0,0 +1,29 @@
+package com.ansysan.task_management_system.dto;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * One imported task. Users are referenced by email; the dates default to the import time.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@JsonPropertyOrder({"header", "description", "status", "priority", "authorEmail", "performerEmail",
+        "createdTime", "updatedTime"})
+public class TaskImportRowDto {
+    private String header;
+    private String description;
+    private String status;
+    private String priority;
+    private String authorEmail;
+    private String performerEmail;
+    private LocalDateTime createdTime;
+    private LocalDateTime updatedTime;
+}
@@ -1,6 +1,6 @@
 package com.ansysan.task_management_system.dto;
 
-import com.ansysan.task_management_system.entity.User;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -21,7 +21,12 @@ public class TaskReadDto {
     private String priority;
     private LocalDateTime createdTime;
     private LocalDateTime updatedTime;
-    private User author;
-    private User performer;
+    private Long version;
+    private UserReadDto author;
+    private UserReadDto performer;
+    /**
+     * Only filled when the comments are requested as an expansion; omitted from the JSON otherwise.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private List<CommentReadDto> comments;
 }
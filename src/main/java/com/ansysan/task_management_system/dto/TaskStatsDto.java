@@ -0,0 +1,21 @@
+package com.ansysan.task_management_system.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class TaskStatsDto {
+    private Long performerId;
+    private long total;
+    private Map<String, Long> byStatus;
+    private Map<String, Long> byPriority;
+    private List<TaskStatsCountDto> counts;
+}
@@ -1,5 +1,7 @@
 package com.ansysan.task_management_system.dto;
 
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -10,6 +12,8 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @Builder
 public class UserReadDto {
+    @NotNull
+    @Positive
     private Long id;
     private String username;
     private String email;
@@ -36,7 +36,7 @@ public class Comment {
     @Column(name = "updated_date")
     private LocalDateTime updatedDate;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "task_id")
     private Task task;
 }
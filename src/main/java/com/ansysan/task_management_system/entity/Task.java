@@ -7,6 +7,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -19,9 +20,22 @@ import java.util.List;
 @Builder
 @Entity
 @Table(name = "task")
+@NamedEntityGraph(name = Task.WITH_USERS, attributeNodes = {
+        @NamedAttributeNode("author"),
+        @NamedAttributeNode("performer")
+})
+@NamedEntityGraph(name = Task.WITH_USERS_AND_COMMENTS, attributeNodes = {
+        @NamedAttributeNode("author"),
+        @NamedAttributeNode("performer"),
+        @NamedAttributeNode("comments")
+})
 public class Task {
+    public static final String WITH_USERS = "Task.withUsers";
+    public static final String WITH_USERS_AND_COMMENTS = "Task.withUsersAndComments";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_id_seq")
+    @SequenceGenerator(name = "task_id_seq", sequenceName = "task_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -44,6 +58,10 @@ public class Task {
     @Column(name = "updated_date", nullable = false)
     private LocalDateTime updatedDate;
 
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "author_id", nullable = false)
     private User author;
@@ -53,6 +71,7 @@ public class Task {
     private User performer;
 
     @Builder.Default
+    @BatchSize(size = 50)
     @OneToMany(mappedBy = "task")
     private List<Comment> comments = new ArrayList<>();
 }
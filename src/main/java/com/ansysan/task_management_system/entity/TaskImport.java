@@ -0,0 +1,45 @@
+package com.ansysan.task_management_system.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Import checkpoint: how many rows of the upload are already committed, so a retried
+ * upload with the same id skips them.
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+@Builder
+@Entity
+@Table(name = "task_import")
+public class TaskImport {
+    @Id
+    private String id;
+
+    @Column(name = "rows_processed", nullable = false)
+    private long rowsProcessed;
+
+    @Column(name = "rows_imported", nullable = false)
+    private long rowsImported;
+
+    @Column(name = "rows_rejected", nullable = false)
+    private long rowsRejected;
+
+    @Column(nullable = false)
+    private boolean completed;
+
+    @Column(name = "created_date", nullable = false)
+    private LocalDateTime createdDate;
+
+    @Column(name = "updated_date", nullable = false)
+    private LocalDateTime updatedDate;
+
+    @Version
+    private Long version;
+}
@@ -1,6 +1,7 @@
 package com.ansysan.task_management_system.entity;
 
 import com.ansysan.task_management_system.entity.enums.Role;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -15,7 +16,7 @@ import java.util.List;
 @Data
 @Builder
 @Entity
-@Table(name = "user")
+@Table(name = "`user`")
 public class User {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -33,10 +34,12 @@ public class User {
     @Enumerated(EnumType.STRING)
     private Role role;
 
+    @JsonIgnore
     @Builder.Default
     @OneToMany(mappedBy = "author")
     private List<Task> createdTasks = new ArrayList<>();
 
+    @JsonIgnore
     @Builder.Default
     @OneToMany(mappedBy = "performer")
     private List<Task> performedTasks = new ArrayList<>();
@@ -1,6 +1,13 @@
 package com.ansysan.task_management_system.entity.enums;
 
-public enum Role {
+import org.springframework.security.core.GrantedAuthority;
+
+public enum Role implements GrantedAuthority {
     ADMIN,
-    USER
+    USER;
+
+    @Override
+    public String getAuthority() {
+        return "ROLE_" + name();
+    }
 }
@@ -0,0 +1,7 @@
+package com.ansysan.task_management_system.exception;
+
+public class PreconditionFailedException extends RuntimeException {
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+}
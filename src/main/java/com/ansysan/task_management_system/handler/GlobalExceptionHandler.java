@@ -3,7 +3,10 @@ package com.ansysan.task_management_system.handler;
 import com.ansysan.task_management_system.exception.*;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -42,6 +45,35 @@ public class GlobalExceptionHandler {
         return e.getMessage();
     }
 
+    @ExceptionHandler(DataValidationException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public String handlerDataValidationException(DataValidationException e) {
+        log.error("Validation error: {}",e.getMessage());
+        return e.getMessage();
+    }
+
+    @ExceptionHandler(PreconditionFailedException.class)
+    @ResponseStatus(HttpStatus.PRECONDITION_FAILED)
+    public String handlerPreconditionFailedException(PreconditionFailedException e) {
+        log.error("Precondition failed: {}",e.getMessage());
+        return e.getMessage();
+    }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public String handlerOptimisticLockingFailureException(OptimisticLockingFailureException e) {
+        log.error("Concurrent modification: {}",e.getMessage());
+        return "The resource was modified concurrently, reload it and retry";
+    }
+
+    @ExceptionHandler(ServiceOverloadedException.class)
+    public ResponseEntity<String> handlerServiceOverloadedException(ServiceOverloadedException e) {
+        log.warn("Service overloaded: {}",e.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, e.getRetryAfter().toSeconds())))
+                .body(e.getMessage());
+    }
+
     private ErrorResponse buildErrorResponse(Exception e, HttpServletRequest request) {
         return ErrorResponse.builder()
                 .timestamp(LocalDateTime.now())
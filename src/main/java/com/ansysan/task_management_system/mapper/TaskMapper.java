@@ -13,5 +13,11 @@ public interface TaskMapper {
     @Mapping(target = "performer", source = "performerId")
     Task toEntity(TaskCreateDto taskCreateDto);
 
+    /**
+     * Maps the task with author and performer summaries; the comments are left unset and unloaded.
+     */
+    @Mapping(target = "comments", ignore = true)
     TaskReadDto toDto(Task task);
+
+    TaskReadDto toDtoWithComments(Task task);
 }
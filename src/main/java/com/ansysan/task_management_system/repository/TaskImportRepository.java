@@ -0,0 +1,23 @@
+package com.ansysan.task_management_system.repository;
+
+import com.ansysan.task_management_system.entity.TaskImport;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+public interface TaskImportRepository extends JpaRepository<TaskImport, String> {
+
+    /**
+     * Creates the checkpoint unless a concurrent request with the same id already did.
+     * Returns 0 when the row existed.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO task_import (id, created_date, updated_date) VALUES (:id, :now, :now) " +
+            "ON CONFLICT (id) DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("id") String id, @Param("now") LocalDateTime now);
+}
@@ -3,10 +3,119 @@ package com.ansysan.task_management_system.repository;
 import com.ansysan.task_management_system.entity.Task;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface TaskRepository extends JpaRepository<Task, Long> {
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task> {
+    @Override
+    @EntityGraph(Task.WITH_USERS)
+    Page<Task> findAll(Pageable pageable);
+
+    @Override
+    @EntityGraph(Task.WITH_USERS)
+    Page<Task> findAll(Specification<Task> specification, Pageable pageable);
+
+    @EntityGraph(Task.WITH_USERS)
+    Optional<Task> findWithUsersById(Long id);
+
+    @EntityGraph(Task.WITH_USERS_AND_COMMENTS)
+    Optional<Task> findWithCommentsById(Long id);
+
+    @EntityGraph(Task.WITH_USERS)
     Page<Task> findAllByAuthorId(Long authorId, Pageable pageable);
 
+    @EntityGraph(Task.WITH_USERS)
     Page<Task> findAllByPerformerId(Long performerId, Pageable pageable);
-}
\ No newline at end of file
+
+    @EntityGraph(Task.WITH_USERS)
+    Slice<Task> findAllByOrderByCreatedDateDescIdDesc(Pageable pageable);
+
+    @EntityGraph(Task.WITH_USERS)
+    @Query("SELECT t FROM Task t " +
+            "WHERE (t.createdDate, t.id) < (:createdDate, :id) " +
+            "ORDER BY t.createdDate DESC, t.id DESC")
+    Slice<Task> findAllAfter(@Param("createdDate") LocalDateTime createdDate,
+                             @Param("id") Long id,
+                             Pageable pageable);
+
+    @EntityGraph(Task.WITH_USERS)
+    Slice<Task> findAllByAuthorIdOrderByCreatedDateDescIdDesc(Long authorId, Pageable pageable);
+
+    @EntityGraph(Task.WITH_USERS)
+    @Query("SELECT t FROM Task t " +
+            "WHERE t.author.id = :authorId AND (t.createdDate, t.id) < (:createdDate, :id) " +
+            "ORDER BY t.createdDate DESC, t.id DESC")
+    Slice<Task> findAllByAuthorIdAfter(@Param("authorId") Long authorId,
+                                       @Param("createdDate") LocalDateTime createdDate,
+                                       @Param("id") Long id,
+                                       Pageable pageable);
+
+    @EntityGraph(Task.WITH_USERS)
+    Slice<Task> findAllByPerformerIdOrderByCreatedDateDescIdDesc(Long performerId, Pageable pageable);
+
+    @EntityGraph(Task.WITH_USERS)
+    @Query("SELECT t FROM Task t " +
+            "WHERE t.performer.id = :performerId AND (t.createdDate, t.id) < (:createdDate, :id) " +
+            "ORDER BY t.createdDate DESC, t.id DESC")
+    Slice<Task> findAllByPerformerIdAfter(@Param("performerId") Long performerId,
+                                          @Param("createdDate") LocalDateTime createdDate,
+                                          @Param("id") Long id,
+                                          Pageable pageable);
+
+    @Query("SELECT t.version FROM Task t WHERE t.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    @Modifying
+    @Query("UPDATE Task t SET t.version = t.version + 1 WHERE t.id = :id")
+    int incrementVersion(@Param("id") Long id);
+
+    @EntityGraph(Task.WITH_USERS)
+    List<Task> findAllByIdIn(Collection<Long> ids);
+
+    /**
+     * Matches the query against the task and comment search vectors, sums the ranks per task
+     * and returns the next page of ids after the (rank, id) position.
+     */
+    @Query(value = "WITH query AS (SELECT websearch_to_tsquery('simple', :query) AS q), " +
+            "hits AS (" +
+            "    SELECT t.id, ts_rank(t.search_vector, query.q) AS rank " +
+            "    FROM task t, query WHERE t.search_vector @@ query.q " +
+            "    UNION ALL " +
+            "    SELECT c.task_id, ts_rank(c.search_vector, query.q) " +
+            "    FROM comment c, query WHERE c.search_vector @@ query.q" +
+            "), " +
+            "ranked AS (SELECT h.id, CAST(sum(h.rank) AS real) AS rank FROM hits h GROUP BY h.id) " +
+            "SELECT r.id AS id, r.rank AS rank " +
+            "FROM ranked r JOIN task t ON t.id = r.id " +
+            "WHERE (CAST(:status AS varchar) IS NULL OR t.status = CAST(:status AS varchar)) " +
+            "AND (CAST(:priority AS varchar) IS NULL OR t.priority = CAST(:priority AS varchar)) " +
+            "AND (CAST(:performerId AS bigint) IS NULL OR t.performer_id = CAST(:performerId AS bigint)) " +
+            "AND (r.rank, r.id) < (CAST(:rank AS real), CAST(:id AS bigint)) " +
+            "ORDER BY r.rank DESC, r.id DESC " +
+            "LIMIT :limit",
+            nativeQuery = true)
+    List<SearchHit> search(@Param("query") String query,
+                           @Param("status") String status,
+                           @Param("priority") String priority,
+                           @Param("performerId") Long performerId,
+                           @Param("rank") float rank,
+                           @Param("id") long id,
+                           @Param("limit") int limit);
+
+    interface SearchHit {
+        Long getId();
+
+        Float getRank();
+    }
+}
@@ -0,0 +1,68 @@
+package com.ansysan.task_management_system.repository;
+
+import com.ansysan.task_management_system.dto.TaskFilterDto;
+import com.ansysan.task_management_system.entity.Task;
+import com.ansysan.task_management_system.entity.enums.Priority;
+import com.ansysan.task_management_system.entity.enums.Status;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+
+/**
+ * Building blocks for task filters. Every factory returns {@code null} for a missing value,
+ * which {@link Specification#and} skips, so the generated query only contains present predicates.
+ */
+public final class TaskSpecifications {
+
+    private TaskSpecifications() {
+    }
+
+    public static Specification<Task> of(TaskFilterDto filter) {
+        return Specification.where(hasStatus(filter.getStatus()))
+                .and(hasPriority(filter.getPriority()))
+                .and(hasAuthor(filter.getAuthorId()))
+                .and(hasPerformer(filter.getPerformerId()))
+                .and(Boolean.TRUE.equals(filter.getOpen()) ? isOpen() : null)
+                .and(between("createdDate", filter.getCreatedFrom(), filter.getCreatedTo()))
+                .and(between("updatedDate", filter.getUpdatedFrom(), filter.getUpdatedTo()));
+    }
+
+    public static Specification<Task> hasStatus(String status) {
+        return status == null ? null : (root, query, cb) -> cb.equal(root.get("status"), Status.valueOf(status));
+    }
+
+    public static Specification<Task> hasPriority(String priority) {
+        return priority == null ? null : (root, query, cb) -> cb.equal(root.get("priority"), Priority.valueOf(priority));
+    }
+
+    public static Specification<Task> hasAuthor(Long authorId) {
+        return authorId == null ? null : (root, query, cb) -> cb.equal(root.get("author").get("id"), authorId);
+    }
+
+    public static Specification<Task> hasPerformer(Long performerId) {
+        return performerId == null ? null : (root, query, cb) -> cb.equal(root.get("performer").get("id"), performerId);
+    }
+
+    /**
+     * Matches the partial index on non-COMPLETED tasks. COMPLETED is rendered as a SQL literal rather than
+     * a bound parameter, otherwise a generic prepared plan cannot prove the index predicate.
+     */
+    public static Specification<Task> isOpen() {
+        return (root, query, cb) -> cb.notEqual(root.get("status"), cb.literal(Status.COMPLETED));
+    }
+
+    public static Specification<Task> between(String attribute, LocalDateTime from, LocalDateTime to) {
+        if (from == null && to == null) {
+            return null;
+        }
+        return (root, query, cb) -> {
+            if (from == null) {
+                return cb.lessThanOrEqualTo(root.get(attribute), to);
+            }
+            if (to == null) {
+                return cb.greaterThanOrEqualTo(root.get(attribute), from);
+            }
+            return cb.between(root.get(attribute), from, to);
+        };
+    }
+}
@@ -1,14 +1,43 @@
 package com.ansysan.task_management_system.repository;
 
+import com.ansysan.task_management_system.dto.UserReadDto;
 import com.ansysan.task_management_system.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Integer> {
     Optional<User> findUserByEmail(String email);
     Optional<User> findById(Long id);
     Optional<User> deleteUserById(Long id);
+    List<User> findAllByIdIn(Collection<Long> ids);
+
+    @Query("SELECT new com.ansysan.task_management_system.dto.UserReadDto(u.id, u.username, u.email) " +
+            "FROM User u WHERE u.id > :id ORDER BY u.id")
+    List<UserReadDto> findReadDtosAfter(@Param("id") Long id, Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.ansysan.task_management_system.dto.UserReadDto(u.id, u.username, u.email) " +
+            "FROM User u ORDER BY u.id")
+    Stream<UserReadDto> streamReadDtos();
+
+    @Query("SELECT u.id AS id, u.email AS email FROM User u WHERE u.email IN :emails")
+    List<EmailId> findEmailIdsByEmailIn(@Param("emails") Collection<String> emails);
+
+    interface EmailId {
+        Long getId();
+
+        String getEmail();
+    }
 }
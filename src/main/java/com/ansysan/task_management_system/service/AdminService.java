@@ -1,16 +1,29 @@
 package com.ansysan.task_management_system.service;
 
+import com.ansysan.task_management_system.dto.CursorPageDto;
+import com.ansysan.task_management_system.dto.PageCursor;
 import com.ansysan.task_management_system.dto.UserReadDto;
 import com.ansysan.task_management_system.entity.User;
 import com.ansysan.task_management_system.entity.enums.Role;
+import com.ansysan.task_management_system.exception.DataValidationException;
 import com.ansysan.task_management_system.mapper.UserMapper;
 import com.ansysan.task_management_system.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -18,11 +31,22 @@ import java.util.List;
 public class AdminService {
     private final UserRepository userRepository;
     private final UserMapper userMapper;
+    private final JwtTokenCache jwtTokenCache;
+    private final UserCache userCache;
+    private final TokenRevocationService tokenRevocationService;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${admin.users.max-page-size:500}")
+    private int maxPageSize;
 
     public UserReadDto setRoleAdmin(Long id) {
         User user = userRepository.findById(id).orElseThrow(EntityNotFoundException::new);
         user.setRole(Role.ADMIN);
         userRepository.save(user);
+        userCache.invalidate(user);
+        jwtTokenCache.evictSubject(user.getEmail());
+        tokenRevocationService.revokeAll(user.getEmail());
         return userMapper.toDto(user);
     }
 
@@ -30,14 +54,64 @@ public class AdminService {
             User user = userRepository.findById(id).orElseThrow(EntityNotFoundException::new);
             user.setRole(Role.USER);
             userRepository.save(user);
+            userCache.invalidate(user);
+            jwtTokenCache.evictSubject(user.getEmail());
+            tokenRevocationService.revokeAll(user.getEmail());
             return userMapper.toDto(user);
         }
 
-        public List<UserReadDto> getAllUsers () {
-            List<User> users = userRepository.findAll();
-            return users.stream()
-                    .map(userMapper::toDto)
-                    .toList();
+    /**
+     * Returns the next page of users in id order after the cursor. The query selects the DTO
+     * columns directly, so no {@code User} entity or its task collections are ever loaded; one
+     * extra row is fetched to tell whether another page follows.
+     */
+    @Transactional(readOnly = true)
+    public CursorPageDto<UserReadDto> getUsers(String cursor, int size) {
+        if (size < 1 || size > maxPageSize) {
+            throw new DataValidationException("Page size must be between 1 and " + maxPageSize);
+        }
+        PageCursor position = PageCursor.decode(cursor);
+        long after = position == null ? 0 : position.getId();
+        List<UserReadDto> users = userRepository.findReadDtosAfter(after, PageRequest.of(0, size + 1));
+
+        boolean hasNext = users.size() > size;
+        List<UserReadDto> content = hasNext ? users.subList(0, size) : users;
+        String nextCursor = null;
+        if (hasNext) {
+            Long lastId = content.get(content.size() - 1).getId();
+            nextCursor = new PageCursor(String.valueOf(lastId), lastId).encode();
         }
+        return CursorPageDto.<UserReadDto>builder()
+                .content(content)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
     }
 
+    /**
+     * Streams every user as one JSON object per line. The projection is read through a
+     * server-side cursor inside a read-only transaction, so memory stays flat regardless of
+     * the number of users.
+     */
+    public void exportUsers(OutputStream out) {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        readOnly.setReadOnly(true);
+        readOnly.executeWithoutResult(status -> {
+            try (Stream<UserReadDto> users = userRepository.streamReadDtos();
+                 SequenceWriter writer = objectMapper.writerFor(UserReadDto.class)
+                         .withRootValueSeparator("\n")
+                         .writeValues(out)) {
+                users.forEach(user -> {
+                    try {
+                        writer.write(user);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        log.debug("Users exported");
+    }
+}
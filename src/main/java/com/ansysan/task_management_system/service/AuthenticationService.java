@@ -5,8 +5,11 @@ import com.ansysan.task_management_system.dto.UserCreateDto;
 import com.ansysan.task_management_system.entity.User;
 import com.ansysan.task_management_system.entity.UserDetailsImpl;
 import com.ansysan.task_management_system.entity.enums.Role;
+import com.ansysan.task_management_system.exception.AuthException;
 import com.ansysan.task_management_system.exception.UserException;
 import com.ansysan.task_management_system.repository.UserRepository;
+import com.ansysan.task_management_system.service.JwtTokenCache.VerifiedToken;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -19,11 +22,14 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 @RequiredArgsConstructor
 @Slf4j
+@Timed(value = "auth.service", histogram = true)
 public class AuthenticationService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtService jwtService;
     private final AuthenticationManager authenticationManager;
+    private final JwtTokenCache jwtTokenCache;
+    private final TokenRevocationService tokenRevocationService;
 
     @Transactional
     public JwtResponseDto register(UserCreateDto request) {
@@ -40,7 +46,8 @@ public class AuthenticationService {
                                 .build())
                         .build();
         userRepository.save(userDetails.getUser());
-        String jwtToken = jwtService.generateToken((Authentication) userDetails);
+        String jwtToken = jwtService.generateToken(UsernamePasswordAuthenticationToken.authenticated(
+                userDetails.getUser().getEmail(), null, userDetails.getAuthorities()));
         log.debug("JWT Token registration: {}", jwtToken);
         return new JwtResponseDto(jwtToken);
     }
@@ -49,18 +56,28 @@ public class AuthenticationService {
 
         User user = userRepository.findUserByEmail(request.getEmail())
                 .orElseThrow(() -> new UserException(request.getEmail()));
-        authenticationManager.authenticate(
+        Authentication authentication = authenticationManager.authenticate(
                 new UsernamePasswordAuthenticationToken(
-                        request.getEmail(),
+                        user.getEmail(),
                         request.getPassword()
                 )
         );
-        String jwtToken = jwtService.generateToken((Authentication) UserDetailsImpl.builder()
-                .user(user)
-                .build());
+        String jwtToken = jwtService.generateToken(authentication);
         log.debug("JWT Token authentication: {}", jwtToken);
         return JwtResponseDto.builder()
                 .tokenType(jwtToken)
                 .build();
     }
-}
\ No newline at end of file
+
+    public void logout(String token) {
+        VerifiedToken verifiedToken = jwtTokenCache.verify(token)
+                .orElseThrow(() -> new AuthException("Invalid token"));
+        tokenRevocationService.revoke(verifiedToken);
+        jwtTokenCache.evict(token);
+    }
+
+    public void revokeAll(String email) {
+        tokenRevocationService.revokeAll(email);
+        jwtTokenCache.evictSubject(email);
+    }
+}
@@ -1,5 +1,6 @@
 package com.ansysan.task_management_system.service;
 
+import com.ansysan.task_management_system.config.CacheConfig;
 import com.ansysan.task_management_system.dto.CommentCreateDto;
 import com.ansysan.task_management_system.dto.CommentReadDto;
 import com.ansysan.task_management_system.entity.Comment;
@@ -7,8 +8,10 @@ import com.ansysan.task_management_system.entity.Task;
 import com.ansysan.task_management_system.exception.CommentException;
 import com.ansysan.task_management_system.mapper.CommentMapper;
 import com.ansysan.task_management_system.repository.CommentRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,6 +22,7 @@ import java.time.temporal.ChronoUnit;
 @RequiredArgsConstructor
 @Transactional
 @Slf4j
+@Timed(value = "comment.service", histogram = true)
 public class CommentService {
     private final CommentMapper commentMapper;
     private final CommentRepository commentRepository;
@@ -26,12 +30,14 @@ public class CommentService {
 
 
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.TASKS_CACHE, key = "#commentCreateDto.taskId.id")
     public CommentReadDto createComment(CommentCreateDto commentCreateDto){
         Task task = taskService.checkTask(commentCreateDto.getTaskId().getId());
 
         Comment comment = commentMapper.toEntity(commentCreateDto);
 
         comment = commentRepository.save(comment);
+        taskService.touchTask(task.getId());
 
         log.debug("comment created with id: " + comment.getId());
         return commentMapper.toDto(comment);
@@ -41,6 +47,7 @@ public class CommentService {
         Comment comment = existsComment(commentId);
         comment.setUpdatedDate(LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS));
         comment = commentRepository.save(comment);
+        taskService.touchTask(comment.getTask().getId());
         log.debug("comment updated with id: " + commentId);
         return commentMapper.toDto(comment);
     }
@@ -48,6 +55,7 @@ public class CommentService {
     public CommentReadDto deleteComment(Long id){
         Comment comment = existsComment(id);
         commentRepository.delete(comment);
+        taskService.touchTask(comment.getTask().getId());
         log.debug("comment deleted with ID: {}", id);
         return commentMapper.toDto(comment);
     }
@@ -0,0 +1,191 @@
+package com.ansysan.task_management_system.service;
+
+import com.ansysan.task_management_system.entity.enums.Priority;
+import com.ansysan.task_management_system.entity.enums.Role;
+import com.ansysan.task_management_system.entity.enums.Status;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.SplittableRandom;
+
+/**
+ * Bulk-loads synthetic users, tasks and comments with {@code COPY} for profiling at production
+ * volumes. Everything is derived from the seed, so the same spec produces the same rows. Each table
+ * has its own random stream, but tasks draw authors and performers from the user count and comments
+ * draw authors and tasks from both counts: changing the comment count leaves users and tasks as they
+ * were, while changing the user or task count also changes the tables that reference them. Performers
+ * and commented tasks follow Zipf distributions, giving a few hot performers and hot tasks. The
+ * first generated user is always an admin, so load tests have a known account for admin routes.
+ * <p>
+ * Rows are appended after the current maximum ids and each batch is committed on its own; the id
+ * sequences are moved past the loaded rows and the task stats are reconciled at the end.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DatasetGenerator {
+    private static final String[] WORDS = {
+            "release", "deploy", "review", "migration", "index", "cache", "report", "invoice", "customer",
+            "backend", "frontend", "api", "search", "export", "import", "schema", "payment", "login",
+            "dashboard", "latency", "timeout", "retry", "queue", "worker", "audit", "billing", "mobile",
+            "upload", "notification", "profile", "settings", "permissions", "token", "session", "metrics",
+            "alert", "backup", "restore", "query", "page", "filter", "sort", "bug", "feature", "refactor",
+            "test", "document", "design", "config", "rollout", "hotfix", "incident", "ticket", "sprint"
+    };
+    private static final Status[] STATUSES = {Status.PENDING, Status.PROGRESS, Status.COMPLETED};
+    private static final double[] STATUS_WEIGHTS = {0.3, 0.2, 0.5};
+    private static final Priority[] PRIORITIES = {Priority.LOW, Priority.MIDDLE, Priority.HIGH};
+    private static final double[] PRIORITY_WEIGHTS = {0.5, 0.35, 0.15};
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final TaskStatsService taskStatsService;
+
+    public void generate(DatasetSpec spec) {
+        long firstUserId = maxId("\"user\"") + 1;
+        long firstTaskId = maxId("task") + 1;
+        long firstCommentId = maxId("comment") + 1;
+        log.info("Generating {} with users from {}, tasks from {}, comments from {}",
+                spec, firstUserId, firstTaskId, firstCommentId);
+
+        String password = passwordEncoder.encode("password");
+        copy("\"user\" (id, username, password, email, role)", spec.users(), spec.batchSize(),
+                new SplittableRandom(spec.seed()), (out, i, random) -> {
+                    long id = firstUserId + i;
+                    boolean admin = random.nextInt(1000) == 0 || i == 0;
+                    out.append(String.valueOf(id)).append(",user").append(String.valueOf(id))
+                            .append(',').append(password)
+                            .append(",user").append(String.valueOf(id)).append("@datagen.test,")
+                            .append(admin ? Role.ADMIN.name() : Role.USER.name())
+                            .append('\n');
+                });
+
+        ZipfSampler performers = new ZipfSampler(spec.users(), spec.performerSkew(), spec.seed() + 1);
+        copy("task (id, header, description, status, priority, created_date, updated_date, author_id, performer_id)",
+                spec.tasks(), spec.batchSize(), new SplittableRandom(spec.seed() + 2), (out, i, random) -> {
+                    LocalDateTime created = date(spec, random);
+                    out.append(String.valueOf(firstTaskId + i)).append(',');
+                    words(out, random, 3, 6);
+                    out.append(',');
+                    words(out, random, 8, 14);
+                    out.append(',').append(pick(STATUSES, STATUS_WEIGHTS, random).name())
+                            .append(',').append(pick(PRIORITIES, PRIORITY_WEIGHTS, random).name())
+                            .append(',').append(created.toString())
+                            .append(',').append(created.plusHours(random.nextInt(24 * 14)).toString())
+                            .append(',').append(String.valueOf(firstUserId + random.nextLong(spec.users())))
+                            .append(',').append(String.valueOf(firstUserId + performers.sampleIndex(random)))
+                            .append('\n');
+                });
+
+        ZipfSampler tasks = new ZipfSampler(spec.tasks(), spec.taskSkew(), spec.seed() + 3);
+        copy("comment (id, text, created_date, updated_date, author_email, task_id)",
+                spec.comments(), spec.batchSize(), new SplittableRandom(spec.seed() + 4), (out, i, random) -> {
+                    LocalDateTime created = date(spec, random);
+                    out.append(String.valueOf(firstCommentId + i)).append(',');
+                    words(out, random, 5, 30);
+                    out.append(',').append(created.toString())
+                            .append(',').append(created.toString())
+                            .append(",user").append(String.valueOf(firstUserId + random.nextLong(spec.users())))
+                            .append("@datagen.test,")
+                            .append(String.valueOf(firstTaskId + tasks.sampleIndex(random)))
+                            .append('\n');
+                });
+
+        jdbcTemplate.queryForObject("SELECT setval(pg_get_serial_sequence('\"user\"', 'id'), ?)", Long.class,
+                firstUserId + spec.users() - 1);
+        jdbcTemplate.queryForObject("SELECT setval(pg_get_serial_sequence('task', 'id'), ?)", Long.class,
+                firstTaskId + spec.tasks() - 1);
+        jdbcTemplate.queryForObject("SELECT setval(pg_get_serial_sequence('comment', 'id'), ?)", Long.class,
+                firstCommentId + spec.comments() - 1);
+        jdbcTemplate.execute("ANALYZE \"user\", task, comment");
+        taskStatsService.rebuild();
+        log.info("Dataset generated");
+    }
+
+    private long maxId(String table) {
+        Long max = jdbcTemplate.queryForObject("SELECT max(id) FROM " + table, Long.class);
+        return max == null ? 0 : max;
+    }
+
+    /**
+     * Streams {@code count} rows into the table, one {@code COPY} and transaction per batch.
+     */
+    private void copy(String target, long count, int batchSize, SplittableRandom random, RowWriter rowWriter) {
+        String sql = "COPY " + target + " FROM STDIN WITH (FORMAT csv)";
+        long started = System.nanoTime();
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(true);
+            PGConnection pgConnection = connection.unwrap(PGConnection.class);
+            for (long from = 0; from < count; from += batchSize) {
+                long to = Math.min(count, from + batchSize);
+                try (Writer out = new BufferedWriter(new OutputStreamWriter(
+                        new PGCopyOutputStream(pgConnection, sql, 1 << 16), StandardCharsets.UTF_8), 1 << 16)) {
+                    for (long i = from; i < to; i++) {
+                        rowWriter.write(out, i, random);
+                    }
+                }
+                double seconds = (System.nanoTime() - started) / 1e9;
+                log.info("{}: {}/{} rows, {} rows/s", target.substring(0, target.indexOf(' ')), to, count,
+                        Math.round(to / Math.max(seconds, 1e-3)));
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("COPY into " + target + " failed", e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static LocalDateTime date(DatasetSpec spec, SplittableRandom random) {
+        return spec.until().minusMinutes(random.nextLong(spec.days() * 24L * 60));
+    }
+
+    private static void words(Writer out, SplittableRandom random, int min, int max) throws IOException {
+        int count = random.nextInt(min, max + 1);
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                out.append(' ');
+            }
+            out.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+    }
+
+    private static <T> T pick(T[] values, double[] weights, SplittableRandom random) {
+        double u = random.nextDouble();
+        for (int i = 0; i < values.length - 1; i++) {
+            u -= weights[i];
+            if (u < 0) {
+                return values[i];
+            }
+        }
+        return values[values.length - 1];
+    }
+
+    @FunctionalInterface
+    private interface RowWriter {
+        void write(Writer out, long index, SplittableRandom random) throws IOException;
+    }
+
+    /**
+     * What to generate. {@code until} is the newest creation time, fixed so the dates do not depend
+     * on when the generator runs; creation times are spread over the preceding {@code days}.
+     */
+    public record DatasetSpec(long seed, long users, long tasks, long comments, double performerSkew,
+                              double taskSkew, int days, LocalDateTime until, int batchSize) {
+    }
+}
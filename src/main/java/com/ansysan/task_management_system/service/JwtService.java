@@ -5,23 +5,43 @@ import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SignatureException;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.util.Collection;
 import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class JwtService {
+    public static final String AUTHORITIES_CLAIM = "authorities";
 
     private final JwtConfig jwtConfig;
+    private final SecretKey signingKey;
+    private final JwtParser jwtParser;
+
+    /**
+     * Decodes the signing key and builds the parser once; both are immutable and thread-safe,
+     * so every request reuses them instead of rebuilding them per call. There is no default key:
+     * startup fails unless {@code security.jwt.secret} (JWT_SECRET) is set.
+     */
+    public JwtService(JwtConfig jwtConfig) {
+        if (jwtConfig.getSecret() == null || jwtConfig.getSecret().isBlank()) {
+            throw new IllegalStateException("security.jwt.secret is not set; provide a Base64 HMAC key via JWT_SECRET");
+        }
+        this.jwtConfig = jwtConfig;
+        this.signingKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(jwtConfig.getSecret()));
+        this.jwtParser = Jwts.parserBuilder().setSigningKey(signingKey).build();
+    }
 
     public String extractUserName(String token) {
         return extractClaim(token, Claims::getSubject);
@@ -32,10 +52,17 @@ public class JwtService {
         return claimsTFunction.apply(claims);
     }
 
-    public  boolean validateToken(String token) {
+    public boolean validateToken(String token) {
+        return parseToken(token).isPresent();
+    }
+
+    /**
+     * Verifies the signature and expiration of the token and returns its claims,
+     * or an empty result if the token is not valid.
+     */
+    public Optional<Claims> parseToken(String token) {
         try {
-            Jwts.parser().setSigningKey(jwtConfig.getSecret().getBytes()).parseClaimsJws(token);
-            return true;
+            return Optional.of(jwtParser.parseClaimsJws(token).getBody());
         } catch (SignatureException e) {
             log.error("Invalid JWT signature: {}", e.getMessage());
         } catch (MalformedJwtException e) {
@@ -48,32 +75,36 @@ public class JwtService {
             log.error("JWT claims string is empty: {}", e.getMessage());
         }
 
-        return false;
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the authorities written by {@link #generateToken(Authentication)}.
+     */
+    public List<GrantedAuthority> extractAuthorities(Claims claims) {
+        Object authorities = claims.get(AUTHORITIES_CLAIM);
+        if (!(authorities instanceof Collection<?> values)) {
+            return List.of();
+        }
+        return values.stream()
+                .map(value -> (GrantedAuthority) new SimpleGrantedAuthority(String.valueOf(value)))
+                .toList();
     }
 
     public String generateToken(Authentication authentication) {
         long now = System.currentTimeMillis();
         return Jwts.builder()
+                .setId(UUID.randomUUID().toString())
                 .setSubject(authentication.getName())
-                .claim("authorities", authentication.getAuthorities().stream()
+                .claim(AUTHORITIES_CLAIM, authentication.getAuthorities().stream()
                         .map(GrantedAuthority::getAuthority).collect(Collectors.toList()))
                 .setIssuedAt(new Date(now))
                 .setExpiration(new Date(now + jwtConfig.getExpiration() * 1000L))
-                .signWith(getSignKey())
+                .signWith(signingKey)
                 .compact();
     }
 
     public Claims extractAllClaims(String token) {
-        return Jwts
-                .parser()
-                .setSigningKey(jwtConfig.getSecret().getBytes())
-                .parseClaimsJws(token)
-                .getBody();
-
-    }
-
-    private SecretKey getSignKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(jwtConfig.getSecret());
-        return Keys.hmacShaKeyFor(keyBytes);
+        return jwtParser.parseClaimsJws(token).getBody();
     }
-}
\ No newline at end of file
+}
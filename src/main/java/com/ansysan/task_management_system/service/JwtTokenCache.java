@@ -0,0 +1,125 @@
+package com.ansysan.task_management_system.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Remembers tokens that already passed {@link JwtService#parseToken(String)}, so a client
+ * repeating the same bearer token skips the HMAC check and claims parsing. Entries are keyed
+ * by the SHA-256 digest of the token, bounded in number and kept no longer than the token's
+ * expiration or {@code security.jwt.cache.max-ttl}, whichever comes first.
+ */
+@Component
+@Slf4j
+public class JwtTokenCache implements MeterBinder {
+    private final JwtService jwtService;
+    private final Cache<String, VerifiedToken> tokens;
+
+    public JwtTokenCache(JwtService jwtService,
+                         @Value("${security.jwt.cache.max-size:10000}") long maxSize,
+                         @Value("${security.jwt.cache.max-ttl:15m}") Duration maxTtl) {
+        this.jwtService = jwtService;
+        this.tokens = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new UntilExpiration(maxTtl))
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Returns the verified token, checking the signature only if it is not cached yet.
+     * Invalid tokens are never cached.
+     */
+    public Optional<VerifiedToken> verify(String token) {
+        String key = digest(token);
+        VerifiedToken cached = tokens.getIfPresent(key);
+        if (cached != null && cached.expiresAtMillis() > System.currentTimeMillis()) {
+            return Optional.of(cached);
+        }
+        Optional<VerifiedToken> verified = jwtService.parseToken(token)
+                .filter(claims -> claims.getSubject() != null)
+                .map(claims -> new VerifiedToken(claims.getId(), claims.getSubject(),
+                        jwtService.extractAuthorities(claims), issuedAtMillis(claims), expiresAtMillis(claims), claims));
+        verified.ifPresent(value -> tokens.put(key, value));
+        return verified;
+    }
+
+    public void evict(String token) {
+        tokens.invalidate(digest(token));
+    }
+
+    /**
+     * Drops every cached token of the subject, e.g. after the user's role changed.
+     */
+    public void evictSubject(String subject) {
+        tokens.asMap().values().removeIf(token -> token.subject().equals(subject));
+        log.debug("Cached tokens evicted for {}", subject);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, tokens, "jwt.tokens", "cache.manager", "caffeine", "name", "jwt.tokens");
+    }
+
+    public long size() {
+        tokens.cleanUp();
+        return tokens.estimatedSize();
+    }
+
+    private static long issuedAtMillis(Claims claims) {
+        return claims.getIssuedAt() == null ? Long.MIN_VALUE : claims.getIssuedAt().getTime();
+    }
+
+    private static long expiresAtMillis(Claims claims) {
+        return claims.getExpiration() == null ? Long.MAX_VALUE : claims.getExpiration().getTime();
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    public record VerifiedToken(String id, String subject, List<GrantedAuthority> authorities,
+                                long issuedAtMillis, long expiresAtMillis, Claims claims) {
+    }
+
+    private record UntilExpiration(Duration maxTtl) implements Expiry<String, VerifiedToken> {
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken token, long currentTime) {
+            long remaining = Duration.ofMillis(Math.max(0, token.expiresAtMillis() - System.currentTimeMillis()))
+                    .toNanos();
+            return Math.min(remaining, maxTtl.toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken token, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, token, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken token, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
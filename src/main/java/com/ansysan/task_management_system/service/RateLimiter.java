@@ -0,0 +1,128 @@
+package com.ansysan.task_management_system.service;
+
+import com.ansysan.task_management_system.config.RateLimitProperties;
+import com.ansysan.task_management_system.config.RateLimitProperties.Limit;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Token buckets shared by all nodes through Redis, with a local tier of leased tokens.
+ * <p>
+ * A node takes up to {@code lease-size} tokens from the Redis bucket in one atomic script call and
+ * spends them locally, so most requests cost no network round trip. Tokens are deducted in Redis
+ * when they are leased, so the cluster never admits more than the bucket allows; leased tokens left
+ * unspent when the lease expires are dropped, which can only under-admit. The take is all-or-nothing
+ * for what the request still needs, so a rejected request leaves the bucket untouched and cannot
+ * drain it for the caller's other requests. If Redis is unavailable the request is allowed.
+ */
+@Service
+@Slf4j
+public class RateLimiter {
+    private static final String KEY_PREFIX = "rate-limit:";
+    private static final RedisScript<List<Long>> TAKE_SCRIPT = listScript("""
+            local capacity = tonumber(ARGV[1])
+            local rate = tonumber(ARGV[2])
+            local requested = tonumber(ARGV[3])
+            local required = tonumber(ARGV[4])
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            local bucket = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+            local tokens = tonumber(bucket[1]) or capacity
+            local ts = tonumber(bucket[2]) or now
+            tokens = math.min(capacity, tokens + math.max(0, now - ts) * rate)
+            local granted = 0
+            if math.floor(tokens) >= required then
+                granted = math.min(requested, math.floor(tokens))
+            end
+            tokens = tokens - granted
+            redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', now)
+            redis.call('PEXPIRE', KEYS[1], math.ceil(capacity / rate) + 1000)
+            return {granted, math.floor(tokens)}
+            """);
+
+    private final StringRedisTemplate redisTemplate;
+    private final RateLimitProperties properties;
+    private final Cache<String, Lease> leases = Caffeine.newBuilder()
+            .maximumSize(100_000)
+            .expireAfterAccess(Duration.ofMinutes(1))
+            .build();
+
+    public RateLimiter(StringRedisTemplate redisTemplate, RateLimitProperties properties) {
+        this.redisTemplate = redisTemplate;
+        this.properties = properties;
+    }
+
+    public Decision tryAcquire(String key, Limit limit, long cost) {
+        Lease lease = leases.get(key, ignored -> new Lease());
+        synchronized (lease) {
+            long now = System.currentTimeMillis();
+            if (lease.expiresAt <= now) {
+                lease.tokens = 0;
+            }
+            if (lease.tokens < cost) {
+                long required = cost - lease.tokens;
+                long[] taken = take(key, limit, Math.max(required, properties.getLeaseSize()), required);
+                if (taken == null) {
+                    return new Decision(true, limit.getCapacity(), limit.getCapacity(), 0, 0);
+                }
+                lease.tokens += taken[0];
+                lease.remainingInRedis = taken[1];
+                lease.expiresAt = now + properties.getLeaseTtl().toMillis();
+            }
+            long remaining = lease.remainingInRedis + Math.max(0, lease.tokens - cost);
+            long resetSeconds = secondsToRefill(limit, limit.getCapacity() - remaining);
+            if (lease.tokens < cost) {
+                long retryAfter = cost > limit.getCapacity()
+                        ? resetSeconds : secondsToRefill(limit, cost - lease.tokens - lease.remainingInRedis);
+                return new Decision(false, limit.getCapacity(), lease.tokens + lease.remainingInRedis,
+                        resetSeconds, Math.max(1, retryAfter));
+            }
+            lease.tokens -= cost;
+            return new Decision(true, limit.getCapacity(), remaining, resetSeconds, 0);
+        }
+    }
+
+    /**
+     * Takes up to {@code requested} tokens, but none unless at least {@code required} are available.
+     */
+    private long[] take(String key, Limit limit, long requested, long required) {
+        try {
+            List<Long> result = redisTemplate.execute(TAKE_SCRIPT, List.of(KEY_PREFIX + key),
+                    String.valueOf(limit.getCapacity()),
+                    String.valueOf(limit.getRefillPerSecond() / 1000.0),
+                    String.valueOf(requested),
+                    String.valueOf(required));
+            return new long[]{result.get(0), result.get(1)};
+        } catch (DataAccessException e) {
+            log.warn("Rate limit check skipped, Redis is unavailable: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static RedisScript<List<Long>> listScript(String script) {
+        return new DefaultRedisScript<>(script, (Class<List<Long>>) (Class<?>) List.class);
+    }
+
+    private static long secondsToRefill(Limit limit, long tokens) {
+        return tokens <= 0 ? 0 : (long) Math.ceil(tokens / limit.getRefillPerSecond());
+    }
+
+    public record Decision(boolean allowed, long limit, long remaining, long resetSeconds, long retryAfterSeconds) {
+    }
+
+    private static final class Lease {
+        private long tokens;
+        private long remainingInRedis;
+        private long expiresAt;
+    }
+}
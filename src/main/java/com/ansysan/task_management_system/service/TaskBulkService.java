@@ -0,0 +1,353 @@
+package com.ansysan.task_management_system.service;
+
+import com.ansysan.task_management_system.config.CacheConfig;
+import com.ansysan.task_management_system.dto.TaskBulkCreateResultDto;
+import com.ansysan.task_management_system.dto.TaskBulkItemResultDto;
+import com.ansysan.task_management_system.dto.TaskBulkUpdateDto;
+import com.ansysan.task_management_system.dto.TaskBulkUpdateResultDto;
+import com.ansysan.task_management_system.dto.TaskCreateDto;
+import com.ansysan.task_management_system.entity.Task;
+import com.ansysan.task_management_system.entity.User;
+import com.ansysan.task_management_system.entity.enums.Priority;
+import com.ansysan.task_management_system.entity.enums.Status;
+import com.ansysan.task_management_system.exception.DataValidationException;
+import com.ansysan.task_management_system.mapper.TaskMapper;
+import com.ansysan.task_management_system.repository.TaskRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiFunction;
+
+@Service
+@RequiredArgsConstructor
+@Transactional
+@Slf4j
+public class TaskBulkService {
+    private final TaskRepository taskRepository;
+    private final TaskMapper taskMapper;
+    private final UserService userService;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final CacheManager cacheManager;
+    private final TaskStatsService taskStatsService;
+
+    @Value("${task.bulk.max-size:10000}")
+    private int maxSize;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private int batchSize;
+
+    @Value("${task.bulk.update-chunk-size:5000}")
+    private int updateChunkSize;
+
+    public TaskBulkCreateResultDto createTasks(List<TaskCreateDto> createDtos, String email){
+        return createTasks(createDtos, Map.of(), email);
+    }
+
+    /**
+     * Parses one {@link TaskCreateDto} per line. A malformed line is rejected on its own
+     * instead of failing the whole request.
+     */
+    public TaskBulkCreateResultDto createTasks(InputStream ndjson, String email){
+        List<TaskCreateDto> createDtos = new ArrayList<>();
+        Map<Integer, String> parseErrors = new HashMap<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(ndjson, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                checkSize(createDtos.size() + 1);
+                try {
+                    createDtos.add(objectMapper.readValue(line, TaskCreateDto.class));
+                } catch (JsonProcessingException e) {
+                    parseErrors.put(createDtos.size(), "Malformed JSON: " + e.getOriginalMessage());
+                    createDtos.add(null);
+                }
+            }
+        } catch (IOException e) {
+            throw new DataValidationException("Failed to read bulk request: " + e.getMessage());
+        }
+        return createTasks(createDtos, parseErrors, email);
+    }
+
+    private TaskBulkCreateResultDto createTasks(List<TaskCreateDto> createDtos, Map<Integer, String> parseErrors, String email){
+        checkSize(createDtos.size());
+        User author = userService.findByEmail(email);
+
+        List<List<String>> errors = new ArrayList<>(createDtos.size());
+        Set<Long> performerIds = new HashSet<>();
+        for (int i = 0; i < createDtos.size(); i++) {
+            List<String> itemErrors = validate(createDtos.get(i), parseErrors.get(i));
+            if (itemErrors.isEmpty()) {
+                performerIds.add(createDtos.get(i).getPerformerId().getId());
+            }
+            errors.add(itemErrors);
+        }
+        Map<Long, User> performers = performerIds.isEmpty() ? Map.of() : userService.findAllByIds(performerIds);
+
+        LocalDateTime now = LocalDateTime.now();
+        List<TaskBulkItemResultDto> items = new ArrayList<>(createDtos.size());
+        List<Task> batch = new ArrayList<>(batchSize);
+        List<TaskBulkItemResultDto> batchItems = new ArrayList<>(batchSize);
+        int created = 0;
+
+        for (int i = 0; i < createDtos.size(); i++) {
+            TaskCreateDto createDto = createDtos.get(i);
+            List<String> itemErrors = errors.get(i);
+            if (itemErrors.isEmpty() && !performers.containsKey(createDto.getPerformerId().getId())) {
+                itemErrors.add(String.format("Performer %s not found", createDto.getPerformerId().getId()));
+            }
+            if (!itemErrors.isEmpty()) {
+                items.add(TaskBulkItemResultDto.builder().index(i).created(false).errors(itemErrors).build());
+                continue;
+            }
+
+            Task task = taskMapper.toEntity(createDto);
+            task.setAuthor(author);
+            task.setPerformer(performers.get(createDto.getPerformerId().getId()));
+            task.setCreatedDate(now);
+            task.setUpdatedDate(now);
+
+            TaskBulkItemResultDto item = TaskBulkItemResultDto.builder().index(i).created(true).errors(List.of()).build();
+            items.add(item);
+            batch.add(task);
+            batchItems.add(item);
+            created++;
+
+            if (batch.size() >= batchSize) {
+                saveBatch(batch, batchItems);
+            }
+        }
+        saveBatch(batch, batchItems);
+
+        log.debug("Bulk created {} tasks, rejected {}", created, items.size() - created);
+        return TaskBulkCreateResultDto.builder()
+                .created(created)
+                .rejected(items.size() - created)
+                .items(items)
+                .build();
+    }
+
+    /**
+     * Moves the selected tasks to the target status/priority/performer with set-based UPDATE statements
+     * instead of loading each task. Every chunk runs in its own transaction so row locks are held briefly:
+     * id lists are split into sorted chunks, filters are walked by keyset ({@code id > :last ORDER BY id LIMIT :chunk})
+     * so sparse matches never cost a transaction per empty id window.
+     * A failure leaves earlier chunks committed, so the call is safe to repeat with the same filter.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public TaskBulkUpdateResultDto updateTasks(TaskBulkUpdateDto updateDto){
+        boolean byIds = updateDto.getIds() != null && !updateDto.getIds().isEmpty();
+        if (!byIds && !hasFilter(updateDto)) {
+            throw new DataValidationException("Bulk update requires ids or at least one filter");
+        }
+        if (updateDto.getTargetStatus() == null && updateDto.getTargetPriority() == null
+                && updateDto.getTargetPerformerId() == null) {
+            throw new DataValidationException("Bulk update requires at least one target value");
+        }
+        User performer = updateDto.getTargetPerformerId() == null
+                ? null : userService.findById(updateDto.getTargetPerformerId());
+        LocalDateTime now = LocalDateTime.now();
+
+        int affected = 0;
+        int chunks = 0;
+        try {
+            if (byIds) {
+                List<Long> ids = updateDto.getIds().stream().distinct().sorted().toList();
+                for (int from = 0; from < ids.size(); from += updateChunkSize) {
+                    List<Long> chunk = ids.subList(from, Math.min(from + updateChunkSize, ids.size()));
+                    affected += updateChunk(updateDto, performer, now, (cb, root) -> root.get("id").in(chunk)).size();
+                    chunks++;
+                }
+            } else {
+                long lastId = 0;
+                while (true) {
+                    long after = lastId;
+                    List<Long> updated = updateChunk(updateDto, performer, now,
+                            (cb, root) -> cb.greaterThan(root.<Long>get("id"), after));
+                    if (updated.isEmpty()) {
+                        break;
+                    }
+                    affected += updated.size();
+                    chunks++;
+                    if (updated.size() < updateChunkSize) {
+                        break;
+                    }
+                    lastId = updated.get(updated.size() - 1);
+                }
+            }
+        } finally {
+            Optional.ofNullable(cacheManager.getCache(CacheConfig.TASKS_CACHE)).ifPresent(Cache::clear);
+        }
+
+        log.debug("Bulk updated {} tasks in {} chunks", affected, chunks);
+        return TaskBulkUpdateResultDto.builder()
+                .affected(affected)
+                .chunks(chunks)
+                .build();
+    }
+
+    /**
+     * Updates at most one chunk of matching rows in its own transaction and returns their ids in ascending order.
+     */
+    private List<Long> updateChunk(TaskBulkUpdateDto updateDto, User performer, LocalDateTime now,
+                                   BiFunction<CriteriaBuilder, Root<Task>, Predicate> chunkPredicate){
+        List<Long> updated = transactionTemplate.execute(status -> {
+            CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+            List<Tuple> rows = lockRows(cb, updateDto, chunkPredicate);
+            if (rows.isEmpty()) {
+                return List.of();
+            }
+            List<Long> ids = rows.stream().map(row -> row.get(0, Long.class)).toList();
+
+            CriteriaUpdate<Task> update = cb.createCriteriaUpdate(Task.class);
+            Root<Task> root = update.from(Task.class);
+            Status targetStatus = updateDto.getTargetStatus() == null ? null : Status.valueOf(updateDto.getTargetStatus());
+            Priority targetPriority = updateDto.getTargetPriority() == null ? null : Priority.valueOf(updateDto.getTargetPriority());
+            if (targetStatus != null) {
+                update.set(root.get("status"), targetStatus);
+            }
+            if (targetPriority != null) {
+                update.set(root.get("priority"), targetPriority);
+            }
+            if (performer != null) {
+                update.set(root.get("performer"), performer);
+            }
+            update.set(root.get("updatedDate"), now);
+            update.set(root.<Long>get("version"), cb.sum(root.<Long>get("version"), 1L));
+            update.where(root.get("id").in(ids));
+            entityManager.createQuery(update).executeUpdate();
+
+            TaskStatsDeltas deltas = new TaskStatsDeltas();
+            for (Tuple row : rows) {
+                Long oldPerformerId = row.get(1, Long.class);
+                Status oldStatus = row.get(2, Status.class);
+                Priority oldPriority = row.get(3, Priority.class);
+                deltas.add(oldPerformerId, oldStatus, oldPriority, -1)
+                        .add(performer == null ? oldPerformerId : performer.getId(),
+                                targetStatus == null ? oldStatus : targetStatus,
+                                targetPriority == null ? oldPriority : targetPriority, 1);
+            }
+            taskStatsService.apply(deltas);
+            return ids;
+        });
+        return updated == null ? List.of() : updated;
+    }
+
+    /**
+     * Locks the chunk's matching rows and reads the values the counters are keyed by,
+     * so the stats deltas describe exactly the rows the UPDATE then changes.
+     */
+    private List<Tuple> lockRows(CriteriaBuilder cb, TaskBulkUpdateDto updateDto,
+                                 BiFunction<CriteriaBuilder, Root<Task>, Predicate> chunkPredicate){
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Task> root = query.from(Task.class);
+        List<Predicate> predicates = filterPredicates(cb, root, updateDto);
+        predicates.add(chunkPredicate.apply(cb, root));
+        query.multiselect(root.get("id"), root.get("performer").get("id"), root.get("status"), root.get("priority"))
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(cb.asc(root.get("id")));
+        return entityManager.createQuery(query)
+                .setMaxResults(updateChunkSize)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .getResultList();
+    }
+
+    private List<Predicate> filterPredicates(CriteriaBuilder cb, Root<Task> root, TaskBulkUpdateDto updateDto){
+        List<Predicate> predicates = new ArrayList<>();
+        if (updateDto.getStatus() != null) {
+            predicates.add(cb.equal(root.get("status"), Status.valueOf(updateDto.getStatus())));
+        }
+        if (updateDto.getPriority() != null) {
+            predicates.add(cb.equal(root.get("priority"), Priority.valueOf(updateDto.getPriority())));
+        }
+        if (updateDto.getAuthorId() != null) {
+            predicates.add(cb.equal(root.get("author").get("id"), updateDto.getAuthorId()));
+        }
+        if (updateDto.getPerformerId() != null) {
+            predicates.add(cb.equal(root.get("performer").get("id"), updateDto.getPerformerId()));
+        }
+        return predicates;
+    }
+
+    private boolean hasFilter(TaskBulkUpdateDto updateDto){
+        return updateDto.getStatus() != null || updateDto.getPriority() != null
+                || updateDto.getAuthorId() != null || updateDto.getPerformerId() != null;
+    }
+
+    private List<String> validate(TaskCreateDto createDto, String parseError){
+        List<String> errors = new ArrayList<>();
+        if (parseError != null) {
+            errors.add(parseError);
+        } else if (createDto == null) {
+            errors.add("Task must not be null");
+        } else {
+            for (ConstraintViolation<TaskCreateDto> violation : validator.validate(createDto)) {
+                errors.add(violation.getPropertyPath() + " " + violation.getMessage());
+            }
+        }
+        return errors;
+    }
+
+    /**
+     * Ids come from the pooled task_id_seq, so the whole batch goes out as one JDBC batch on flush.
+     * The persistence context is cleared afterwards to keep memory flat for large requests.
+     */
+    private void saveBatch(List<Task> batch, List<TaskBulkItemResultDto> batchItems){
+        if (batch.isEmpty()) {
+            return;
+        }
+        List<Task> saved = taskRepository.saveAll(batch);
+        TaskStatsDeltas deltas = new TaskStatsDeltas();
+        for (int i = 0; i < saved.size(); i++) {
+            batchItems.get(i).setId(saved.get(i).getId());
+            deltas.add(saved.get(i), 1);
+        }
+        taskStatsService.apply(deltas);
+        taskRepository.flush();
+        entityManager.clear();
+        batch.clear();
+        batchItems.clear();
+    }
+
+    private void checkSize(int size){
+        if (size > maxSize) {
+            throw new DataValidationException(String.format("Bulk request exceeds %s tasks", maxSize));
+        }
+    }
+}
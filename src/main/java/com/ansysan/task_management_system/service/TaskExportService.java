@@ -0,0 +1,140 @@
+package com.ansysan.task_management_system.service;
+
+import com.ansysan.task_management_system.dto.TaskExportDto;
+import com.ansysan.task_management_system.dto.TaskFileFormat;
+import com.ansysan.task_management_system.dto.TaskFilterDto;
+import com.ansysan.task_management_system.entity.enums.Status;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TaskExportService {
+    private static final String SELECT = "SELECT t.id, t.header, t.description, t.status, t.priority, " +
+            "t.created_date, t.updated_date, t.author_id, a.email AS author_email, " +
+            "t.performer_id, p.email AS performer_email " +
+            "FROM task t " +
+            "JOIN \"user\" a ON a.id = t.author_id " +
+            "JOIN \"user\" p ON p.id = t.performer_id";
+
+    private static final CsvMapper CSV_MAPPER = CsvMapper.builder()
+            .findAndAddModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${task.export.fetch-size:1000}")
+    private int fetchSize;
+
+    /**
+     * Streams every task matching the filter in id order. Postgres only uses a server-side cursor
+     * when auto-commit is off and a fetch size is set, so the query runs inside a read-only
+     * transaction and the driver keeps at most {@code fetchSize} rows in memory at a time.
+     */
+    public void export(TaskFilterDto filter, TaskFileFormat format, OutputStream out){
+        List<Object> params = new ArrayList<>();
+        String sql = SELECT + where(filter, params) + " ORDER BY t.id";
+
+        TransactionTemplate readOnly = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        readOnly.setReadOnly(true);
+        readOnly.executeWithoutResult(status -> {
+            try (SequenceWriter writer = writerFor(format).writeValues(out)) {
+                jdbcTemplate.query(connection -> {
+                    PreparedStatement statement = connection.prepareStatement(sql,
+                            ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                    statement.setFetchSize(fetchSize);
+                    for (int i = 0; i < params.size(); i++) {
+                        statement.setObject(i + 1, params.get(i));
+                    }
+                    return statement;
+                }, resultSet -> {
+                    try {
+                        writer.write(toDto(resultSet));
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        log.debug("Tasks exported as " + format);
+    }
+
+    private ObjectWriter writerFor(TaskFileFormat format){
+        if (format == TaskFileFormat.CSV) {
+            return CSV_MAPPER.writer(CSV_MAPPER.schemaFor(TaskExportDto.class).withHeader());
+        }
+        return objectMapper.writerFor(TaskExportDto.class).withRootValueSeparator("\n");
+    }
+
+    private TaskExportDto toDto(ResultSet resultSet) throws SQLException {
+        return TaskExportDto.builder()
+                .id(resultSet.getLong("id"))
+                .header(resultSet.getString("header"))
+                .description(resultSet.getString("description"))
+                .status(resultSet.getString("status"))
+                .priority(resultSet.getString("priority"))
+                .createdTime(toLocalDateTime(resultSet.getTimestamp("created_date")))
+                .updatedTime(toLocalDateTime(resultSet.getTimestamp("updated_date")))
+                .authorId(resultSet.getLong("author_id"))
+                .authorEmail(resultSet.getString("author_email"))
+                .performerId(resultSet.getLong("performer_id"))
+                .performerEmail(resultSet.getString("performer_email"))
+                .build();
+    }
+
+    private LocalDateTime toLocalDateTime(Timestamp timestamp){
+        return timestamp == null ? null : timestamp.toLocalDateTime();
+    }
+
+    /**
+     * Same criteria as {@code TaskSpecifications}, rendered as plain SQL for the JDBC cursor.
+     */
+    private String where(TaskFilterDto filter, List<Object> params){
+        List<String> predicates = new ArrayList<>();
+        addPredicate(predicates, params, "t.status = ?", filter.getStatus());
+        addPredicate(predicates, params, "t.priority = ?", filter.getPriority());
+        addPredicate(predicates, params, "t.author_id = ?", filter.getAuthorId());
+        addPredicate(predicates, params, "t.performer_id = ?", filter.getPerformerId());
+        if (Boolean.TRUE.equals(filter.getOpen())) {
+            predicates.add("t.status <> '" + Status.COMPLETED.name() + "'");
+        }
+        addPredicate(predicates, params, "t.created_date >= ?", filter.getCreatedFrom());
+        addPredicate(predicates, params, "t.created_date <= ?", filter.getCreatedTo());
+        addPredicate(predicates, params, "t.updated_date >= ?", filter.getUpdatedFrom());
+        addPredicate(predicates, params, "t.updated_date <= ?", filter.getUpdatedTo());
+        return predicates.isEmpty() ? "" : " WHERE " + String.join(" AND ", predicates);
+    }
+
+    private void addPredicate(List<String> predicates, List<Object> params, String predicate, Object value){
+        if (value != null) {
+            predicates.add(predicate);
+            params.add(value);
+        }
+    }
+}
@@ -0,0 +1,401 @@
+package com.ansysan.task_management_system.service;
+
+import com.ansysan.task_management_system.dto.TaskCreateDto;
+import com.ansysan.task_management_system.dto.TaskFileFormat;
+import com.ansysan.task_management_system.dto.TaskImportRejectDto;
+import com.ansysan.task_management_system.dto.TaskImportResultDto;
+import com.ansysan.task_management_system.dto.TaskImportRowDto;
+import com.ansysan.task_management_system.dto.UserReadDto;
+import com.ansysan.task_management_system.entity.TaskImport;
+import com.ansysan.task_management_system.entity.enums.Priority;
+import com.ansysan.task_management_system.entity.enums.Status;
+import com.ansysan.task_management_system.exception.DataValidationException;
+import com.ansysan.task_management_system.repository.TaskImportRepository;
+import com.ansysan.task_management_system.repository.UserRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.RuntimeJsonMappingException;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TaskImportService {
+    private static final long MISSING_USER = -1L;
+    /**
+     * Must match the INCREMENT BY of task_id_seq: every nextval value v reserves the ids (v - 50, v],
+     * the same block Hibernate's pooled optimizer would use for it.
+     */
+    private static final int ID_BLOCK_SIZE = 50;
+    private static final int EMAIL_QUERY_SIZE = 1000;
+    private static final int MAX_CONSECUTIVE_PARSE_ERRORS = 100;
+    private static final String COPY_SQL = "COPY task (id, header, description, status, priority, " +
+            "created_date, updated_date, author_id, performer_id) FROM STDIN WITH (FORMAT csv)";
+
+    private static final CsvMapper CSV_MAPPER = CsvMapper.builder().findAndAddModules().build();
+
+    private final TaskImportRepository taskImportRepository;
+    private final UserRepository userRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final TaskStatsService taskStatsService;
+
+    @Value("${task.import.chunk-size:5000}")
+    private int chunkSize;
+
+    @Value("${task.import.email-cache-size:10000}")
+    private int emailCacheSize;
+
+    @Value("${task.import.max-rejects:1000}")
+    private int maxRejects;
+
+    /**
+     * Parses the upload row by row and writes valid rows with one {@code COPY} per chunk. Each chunk
+     * commits together with its checkpoint, so re-sending the same file with the same import id
+     * continues after the last committed chunk. Memory is bounded by the chunk size and the email cache.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public TaskImportResultDto importTasks(InputStream body, TaskFileFormat format, String importId){
+        TaskImport checkpoint = start(importId);
+        TaskImportResultDto result = TaskImportResultDto.builder()
+                .importId(checkpoint.getId())
+                .resumedFrom(checkpoint.getRowsProcessed())
+                .completed(checkpoint.isCompleted())
+                .rejects(new ArrayList<>())
+                .build();
+        if (checkpoint.isCompleted()) {
+            return result;
+        }
+
+        Map<String, Long> emailCache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+                return size() > emailCacheSize;
+            }
+        };
+        List<ImportRow> chunk = new ArrayList<>(chunkSize);
+        try (RowReader reader = rowReader(body, format)) {
+            ImportRow row;
+            while ((row = reader.next()) != null) {
+                if (row.number() <= result.getResumedFrom()) {
+                    continue;
+                }
+                chunk.add(row);
+                if (chunk.size() >= chunkSize) {
+                    checkpoint = importChunk(checkpoint, chunk, emailCache, result, false);
+                    chunk.clear();
+                }
+            }
+        } catch (IOException e) {
+            throw new DataValidationException("Failed to read import: " + e.getMessage());
+        }
+        importChunk(checkpoint, chunk, emailCache, result, true);
+
+        log.debug("Import {} finished: {} imported, {} rejected", result.getImportId(), result.getImported(), result.getRejected());
+        return result;
+    }
+
+    private TaskImport start(String importId){
+        String id = importId == null || importId.isBlank() ? UUID.randomUUID().toString() : importId;
+        if (id.length() > 64) {
+            throw new DataValidationException("Import id must not be longer than 64 characters");
+        }
+        taskImportRepository.insertIfAbsent(id, LocalDateTime.now());
+        return taskImportRepository.findById(id)
+                .orElseThrow(() -> new IllegalStateException("Import checkpoint " + id + " disappeared"));
+    }
+
+    private TaskImport importChunk(TaskImport checkpoint, List<ImportRow> chunk, Map<String, Long> emailCache,
+                                   TaskImportResultDto result, boolean last){
+        Map<String, Long> userIds = resolveEmails(chunk, emailCache);
+        LocalDateTime now = LocalDateTime.now();
+
+        StringBuilder copy = new StringBuilder();
+        List<ImportRow> valid = new ArrayList<>(chunk.size());
+        List<TaskImportRejectDto> rejects = new ArrayList<>();
+        for (ImportRow row : chunk) {
+            List<String> errors = validate(row, userIds);
+            if (errors.isEmpty()) {
+                valid.add(row);
+            } else {
+                rejects.add(TaskImportRejectDto.builder().row(row.number()).errors(errors).build());
+            }
+        }
+        List<Long> ids = allocateIds(valid.size());
+        TaskStatsDeltas deltas = new TaskStatsDeltas();
+        for (int i = 0; i < valid.size(); i++) {
+            TaskImportRowDto row = valid.get(i).row();
+            appendCsv(copy, ids.get(i), row, userIds, now);
+            deltas.add(userIds.get(row.getPerformerEmail()), Status.valueOf(row.getStatus()),
+                    Priority.valueOf(row.getPriority()), 1);
+        }
+
+        TaskImport saved = transactionTemplate.execute(status -> {
+            if (!valid.isEmpty()) {
+                jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+                    try {
+                        return connection.unwrap(PGConnection.class).getCopyAPI()
+                                .copyIn(COPY_SQL, new StringReader(copy.toString()));
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                taskStatsService.apply(deltas);
+            }
+            checkpoint.setRowsProcessed(checkpoint.getRowsProcessed() + chunk.size());
+            checkpoint.setRowsImported(checkpoint.getRowsImported() + valid.size());
+            checkpoint.setRowsRejected(checkpoint.getRowsRejected() + rejects.size());
+            checkpoint.setCompleted(last);
+            checkpoint.setUpdatedDate(now);
+            return taskImportRepository.save(checkpoint);
+        });
+
+        result.setProcessed(result.getProcessed() + chunk.size());
+        result.setImported(result.getImported() + valid.size());
+        result.setRejected(result.getRejected() + rejects.size());
+        result.setCompleted(last);
+        int room = maxRejects - result.getRejects().size();
+        result.getRejects().addAll(rejects.subList(0, Math.max(0, Math.min(room, rejects.size()))));
+        return saved;
+    }
+
+    /**
+     * Looks up the chunk's emails that are not cached yet with batched IN queries.
+     * Unknown emails are cached as missing, so repeated bad references cost nothing.
+     */
+    private Map<String, Long> resolveEmails(List<ImportRow> chunk, Map<String, Long> emailCache){
+        Map<String, Long> userIds = new HashMap<>();
+        Set<String> unknown = new HashSet<>();
+        for (ImportRow row : chunk) {
+            if (row.row() == null) {
+                continue;
+            }
+            for (String email : new String[]{row.row().getAuthorEmail(), row.row().getPerformerEmail()}) {
+                if (email == null || email.isBlank() || userIds.containsKey(email)) {
+                    continue;
+                }
+                Long id = emailCache.get(email);
+                if (id == null) {
+                    unknown.add(email);
+                } else {
+                    userIds.put(email, id);
+                }
+            }
+        }
+
+        List<String> emails = new ArrayList<>(unknown);
+        for (int from = 0; from < emails.size(); from += EMAIL_QUERY_SIZE) {
+            List<String> slice = emails.subList(from, Math.min(from + EMAIL_QUERY_SIZE, emails.size()));
+            for (UserRepository.EmailId user : userRepository.findEmailIdsByEmailIn(slice)) {
+                userIds.put(user.getEmail(), user.getId());
+            }
+        }
+        for (String email : emails) {
+            Long id = userIds.computeIfAbsent(email, missing -> MISSING_USER);
+            emailCache.put(email, id);
+        }
+        return userIds;
+    }
+
+    private List<String> validate(ImportRow row, Map<String, Long> userIds){
+        List<String> errors = new ArrayList<>();
+        if (row.error() != null) {
+            errors.add(row.error());
+            return errors;
+        }
+        TaskImportRowDto importRow = row.row();
+        checkUser(errors, "authorEmail", importRow.getAuthorEmail(), userIds);
+        boolean performerFound = checkUser(errors, "performerEmail", importRow.getPerformerEmail(), userIds);
+
+        TaskCreateDto createDto = TaskCreateDto.builder()
+                .header(importRow.getHeader())
+                .description(importRow.getDescription())
+                .status(importRow.getStatus())
+                .priority(importRow.getPriority())
+                .performerId(UserReadDto.builder()
+                        .id(performerFound ? userIds.get(importRow.getPerformerEmail()) : null)
+                        .email(importRow.getPerformerEmail())
+                        .build())
+                .build();
+        for (ConstraintViolation<TaskCreateDto> violation : validator.validate(createDto)) {
+            String property = violation.getPropertyPath().toString();
+            if (performerFound || !property.startsWith("performerId")) {
+                errors.add(property + " " + violation.getMessage());
+            }
+        }
+        return errors;
+    }
+
+    private boolean checkUser(List<String> errors, String property, String email, Map<String, Long> userIds){
+        if (email == null || email.isBlank()) {
+            errors.add(property + " must not be blank");
+            return false;
+        }
+        if (userIds.getOrDefault(email, MISSING_USER) == MISSING_USER) {
+            errors.add(String.format("User %s not found", email));
+            return false;
+        }
+        return true;
+    }
+
+    private List<Long> allocateIds(int count){
+        List<Long> ids = new ArrayList<>(count);
+        while (ids.size() < count) {
+            int blocks = (count - ids.size() + ID_BLOCK_SIZE - 1) / ID_BLOCK_SIZE;
+            List<Long> values = jdbcTemplate.queryForList(
+                    "SELECT nextval('task_id_seq') FROM generate_series(1, ?)", Long.class, blocks);
+            for (Long value : values) {
+                for (long id = Math.max(1, value - ID_BLOCK_SIZE + 1); id <= value && ids.size() < count; id++) {
+                    ids.add(id);
+                }
+            }
+        }
+        return ids;
+    }
+
+    private void appendCsv(StringBuilder copy, Long id, TaskImportRowDto row, Map<String, Long> userIds, LocalDateTime now){
+        LocalDateTime created = row.getCreatedTime() == null ? now : row.getCreatedTime();
+        LocalDateTime updated = row.getUpdatedTime() == null ? created : row.getUpdatedTime();
+        copy.append(id).append(',');
+        appendQuoted(copy, row.getHeader());
+        copy.append(',');
+        appendQuoted(copy, row.getDescription());
+        copy.append(',').append(row.getStatus())
+                .append(',').append(row.getPriority())
+                .append(',').append(created)
+                .append(',').append(updated)
+                .append(',').append(userIds.get(row.getAuthorEmail()))
+                .append(',').append(userIds.get(row.getPerformerEmail()))
+                .append('\n');
+    }
+
+    private void appendQuoted(StringBuilder copy, String value){
+        copy.append('"').append(value.replace("\"", "\"\"")).append('"');
+    }
+
+    private RowReader rowReader(InputStream body, TaskFileFormat format) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        if (format == TaskFileFormat.CSV) {
+            ObjectReader csvReader = CSV_MAPPER.readerFor(TaskImportRowDto.class)
+                    .with(CsvSchema.emptySchema().withHeader())
+                    .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+            return new CsvRowReader(reader, csvReader.readValues(reader));
+        }
+        return new NdjsonRowReader(reader, objectMapper.readerFor(TaskImportRowDto.class));
+    }
+
+    private record ImportRow(long number, TaskImportRowDto row, String error) {
+    }
+
+    private interface RowReader extends Closeable {
+        /**
+         * @return the next data row, or {@code null} at the end of the upload
+         */
+        ImportRow next() throws IOException;
+    }
+
+    private static final class NdjsonRowReader implements RowReader {
+        private final BufferedReader reader;
+        private final ObjectReader rowReader;
+        private long number;
+
+        private NdjsonRowReader(BufferedReader reader, ObjectReader rowReader) {
+            this.reader = reader;
+            this.rowReader = rowReader;
+        }
+
+        @Override
+        public ImportRow next() throws IOException {
+            String line;
+            do {
+                line = reader.readLine();
+                if (line == null) {
+                    return null;
+                }
+            } while (line.isBlank());
+            number++;
+            try {
+                return new ImportRow(number, rowReader.readValue(line), null);
+            } catch (JsonProcessingException e) {
+                return new ImportRow(number, null, "Malformed JSON: " + e.getOriginalMessage());
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+    }
+
+    private static final class CsvRowReader implements RowReader {
+        private final BufferedReader reader;
+        private final MappingIterator<TaskImportRowDto> rows;
+        private long number;
+        private int consecutiveErrors;
+
+        private CsvRowReader(BufferedReader reader, MappingIterator<TaskImportRowDto> rows) {
+            this.reader = reader;
+            this.rows = rows;
+        }
+
+        @Override
+        public ImportRow next() throws IOException {
+            number++;
+            try {
+                if (!rows.hasNextValue()) {
+                    return null;
+                }
+                TaskImportRowDto row = rows.nextValue();
+                consecutiveErrors = 0;
+                return new ImportRow(number, row, null);
+            } catch (JsonProcessingException | RuntimeJsonMappingException e) {
+                if (++consecutiveErrors > MAX_CONSECUTIVE_PARSE_ERRORS) {
+                    throw new DataValidationException("Unreadable CSV near row " + number);
+                }
+                return new ImportRow(number, null, "Malformed CSV: " + e.getMessage().lines().findFirst().orElse(""));
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            rows.close();
+            reader.close();
+        }
+    }
+}
@@ -1,32 +1,58 @@
 package com.ansysan.task_management_system.service;
 
+import com.ansysan.task_management_system.config.CacheConfig;
+import com.ansysan.task_management_system.dto.CursorPageDto;
+import com.ansysan.task_management_system.dto.PageCursor;
 import com.ansysan.task_management_system.dto.TaskCreateDto;
+import com.ansysan.task_management_system.dto.TaskFilterDto;
 import com.ansysan.task_management_system.dto.TaskReadDto;
 import com.ansysan.task_management_system.entity.Task;
 import com.ansysan.task_management_system.entity.User;
 import com.ansysan.task_management_system.entity.enums.Priority;
 import com.ansysan.task_management_system.entity.enums.Status;
+import com.ansysan.task_management_system.exception.DataValidationException;
+import com.ansysan.task_management_system.exception.PreconditionFailedException;
 import com.ansysan.task_management_system.exception.TaskException;
 import com.ansysan.task_management_system.mapper.TaskMapper;
 import com.ansysan.task_management_system.repository.TaskRepository;
+import com.ansysan.task_management_system.repository.TaskSpecifications;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 @Slf4j
+@Timed(value = "task.service", histogram = true)
 public class TaskService {
     private final TaskRepository taskRepository;
     private final TaskMapper taskMapper;
     private final UserService userService;
+    private final TaskStatsService taskStatsService;
+
+    @Value("${task.search.max-page-size:100}")
+    private int maxSearchPageSize;
 
     public Task checkTask(Long id){
        return taskRepository.findById(id)
@@ -38,14 +64,36 @@ public class TaskService {
     public TaskReadDto createTask(TaskCreateDto createDto, String email){
         User user = userService.findByEmail(email);
         Task task = taskMapper.toEntity(createDto);
+        LocalDateTime now = LocalDateTime.now();
+        task.setAuthor(user);
+        task.setCreatedDate(now);
+        task.setUpdatedDate(now);
         taskRepository.save(task);
+        taskStatsService.apply(new TaskStatsDeltas().add(task, 1));
         log.debug("Task created with id " + createDto.getPerformerId());
         return taskMapper.toDto(task);
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.TASKS_CACHE, key = "#id")
     public TaskReadDto updateTask(Long id, TaskCreateDto createDto){
+        return updateTask(id, createDto, null);
+    }
+
+    /**
+     * Updates the task if its current version equals {@code expectedVersion}; a {@code null}
+     * expected version skips the check. A writer committing between the check and the flush is
+     * still caught by the version column.
+     */
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.TASKS_CACHE, key = "#id")
+    public TaskReadDto updateTask(Long id, TaskCreateDto createDto, Long expectedVersion){
         Task checkTask = checkTask(id);
+        if (expectedVersion != null && !expectedVersion.equals(checkTask.getVersion())) {
+            throw new PreconditionFailedException(String.format(
+                    "Task %s has version %s, expected %s", id, checkTask.getVersion(), expectedVersion));
+        }
+        TaskStatsDeltas deltas = new TaskStatsDeltas().add(checkTask, -1);
 
         User user = userService.findById(id);
 
@@ -54,20 +102,42 @@ public class TaskService {
         checkTask.setStatus(Status.valueOf(createDto.getStatus()));
         checkTask.setPriority(Priority.valueOf(createDto.getPriority()));
         checkTask.setPerformer(user);
+        checkTask.setUpdatedDate(LocalDateTime.now());
         taskRepository.save(checkTask);
+        try {
+            taskRepository.flush();
+        } catch (OptimisticLockingFailureException e) {
+            if (expectedVersion != null) {
+                throw new PreconditionFailedException(String.format("Task %s was modified concurrently", id));
+            }
+            throw e;
+        }
+        taskStatsService.apply(deltas.add(checkTask, 1));
 
         log.debug("Task updated with id " + createDto.getPerformerId());
         return taskMapper.toDto(checkTask);
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.TASKS_CACHE, key = "#id")
     public TaskReadDto deleteTask(Long id){
         Task task = checkTask(id);
         taskRepository.delete(task);
+        taskStatsService.apply(new TaskStatsDeltas().add(task, -1));
         log.debug("Task deleted with id " + id);
         return taskMapper.toDto(task);
     }
 
+    /**
+     * Marks the task as changed without touching its fields, so that cached copies and
+     * ETags of the task representation (which embeds comments) are invalidated.
+     */
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.TASKS_CACHE, key = "#id")
+    public void touchTask(Long id){
+        taskRepository.incrementVersion(id);
+    }
+
     public Page<TaskReadDto> getAllTasks(int page, int size){
         Pageable pageable = PageRequest.of(page, size);
         Page<Task> tasks = taskRepository.findAll(pageable);
@@ -79,12 +149,33 @@ public class TaskService {
         return tasks.map(taskMapper::toDto);
     }
 
+    @Cacheable(cacheNames = CacheConfig.TASKS_CACHE, key = "#id", sync = true)
     public TaskReadDto getTask(Long id){
-        Task task = checkTask(id);
+        Task task = taskRepository.findWithUsersById(id)
+                .orElseThrow(() -> new TaskException(String.format("Task %s not found", id)));
         log.debug("Task found with id " + id);
         return taskMapper.toDto(task);
     }
 
+    /**
+     * Drops the cached copy of the task, e.g. when it turned out older than the stored version.
+     */
+    @CacheEvict(cacheNames = CacheConfig.TASKS_CACHE, key = "#id")
+    public void evictTask(Long id){
+    }
+
+    public TaskReadDto getTaskWithComments(Long id){
+        Task task = taskRepository.findWithCommentsById(id)
+                .orElseThrow(() -> new TaskException(String.format("Task %s not found", id)));
+        log.debug("Task found with comments with id " + id);
+        return taskMapper.toDtoWithComments(task);
+    }
+
+    public Long getTaskVersion(Long id){
+        return taskRepository.findVersionById(id)
+                .orElseThrow(() -> new TaskException(String.format("Task %s not found", id)));
+    }
+
     public Page<TaskReadDto> getTasksByAuthorId(int page, int size, Long authorId){
         log.debug("Tasks found with author id " + authorId);
         return getTasksByCondition(authorId, page, size, taskRepository::findAllByAuthorId);
@@ -95,6 +186,144 @@ public class TaskService {
         return getTasksByCondition(performedId, page, size, taskRepository::findAllByPerformerId);
     }
 
+    public CursorPageDto<TaskReadDto> getAllTasks(String cursor, int size){
+        log.debug("Tasks found by cursor " + cursor);
+        return getTasksByCursor(cursor, size,
+                taskRepository::findAllByOrderByCreatedDateDescIdDesc,
+                (position, pageable) -> taskRepository.findAllAfter(
+                        createdDateOf(position), position.getId(), pageable));
+    }
+
+    public CursorPageDto<TaskReadDto> getTasksByAuthorId(String cursor, int size, Long authorId){
+        log.debug("Tasks found by cursor with author id " + authorId);
+        return getTasksByCursor(cursor, size,
+                pageable -> taskRepository.findAllByAuthorIdOrderByCreatedDateDescIdDesc(authorId, pageable),
+                (position, pageable) -> taskRepository.findAllByAuthorIdAfter(
+                        authorId, createdDateOf(position), position.getId(), pageable));
+    }
+
+    public CursorPageDto<TaskReadDto> getTasksByPerformedId(String cursor, int size, Long performedId){
+        log.debug("Tasks found by cursor with performed id " + performedId);
+        return getTasksByCursor(cursor, size,
+                pageable -> taskRepository.findAllByPerformerIdOrderByCreatedDateDescIdDesc(performedId, pageable),
+                (position, pageable) -> taskRepository.findAllByPerformerIdAfter(
+                        performedId, createdDateOf(position), position.getId(), pageable));
+    }
+
+    /**
+     * Combines the present filter criteria into one query. The id is always added as the last
+     * sort key so that offsets stay stable between pages.
+     */
+    public Page<TaskReadDto> filterTasks(TaskFilterDto filter, int page, int size){
+        if (isAfter(filter.getCreatedFrom(), filter.getCreatedTo())
+                || isAfter(filter.getUpdatedFrom(), filter.getUpdatedTo())) {
+            throw new DataValidationException("Date range start must not be after its end");
+        }
+        Sort.Direction direction = filter.getDirection() == null
+                ? Sort.Direction.DESC : Sort.Direction.fromString(filter.getDirection());
+        String sort = filter.getSort() == null ? "createdDate" : filter.getSort();
+        Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sort, "id"));
+
+        log.debug("Tasks found by filter " + filter);
+        return taskRepository.findAll(TaskSpecifications.of(filter), pageable).map(taskMapper::toDto);
+    }
+
+    /**
+     * Full-text search over task header/description and comment text, ranked by relevance.
+     * Ids come from the ranked native query, the tasks themselves are loaded with one more query.
+     */
+    public CursorPageDto<TaskReadDto> searchTasks(String query, String status, String priority, Long performerId,
+                                                  String cursor, int size){
+        if (query == null || query.isBlank()) {
+            throw new DataValidationException("Search query must not be blank");
+        }
+        if (size < 1 || size > maxSearchPageSize) {
+            throw new DataValidationException("Page size must be between 1 and " + maxSearchPageSize);
+        }
+        PageCursor position = PageCursor.decode(cursor);
+        List<TaskRepository.SearchHit> hits = taskRepository.search(query,
+                status == null ? null : enumOf(Status.class, status).name(),
+                priority == null ? null : enumOf(Priority.class, priority).name(),
+                performerId,
+                position == null ? Float.POSITIVE_INFINITY : rankOf(position),
+                position == null ? Long.MAX_VALUE : position.getId(),
+                size + 1);
+
+        boolean hasNext = hits.size() > size;
+        List<TaskRepository.SearchHit> pageHits = hasNext ? hits.subList(0, size) : hits;
+        Map<Long, Task> tasks = pageHits.isEmpty() ? Map.of() : taskRepository
+                .findAllByIdIn(pageHits.stream().map(TaskRepository.SearchHit::getId).toList()).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+
+        String nextCursor = null;
+        if (hasNext) {
+            TaskRepository.SearchHit last = pageHits.get(pageHits.size() - 1);
+            nextCursor = new PageCursor(Float.toString(last.getRank()), last.getId()).encode();
+        }
+
+        log.debug("Tasks found by search query " + query);
+        return CursorPageDto.<TaskReadDto>builder()
+                .content(pageHits.stream()
+                        .map(hit -> tasks.get(hit.getId()))
+                        .filter(Objects::nonNull)
+                        .map(taskMapper::toDto)
+                        .toList())
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    private CursorPageDto<TaskReadDto> getTasksByCursor(String cursor, int size,
+                                                        Function<Pageable, Slice<Task>> firstPage,
+                                                        BiFunction<PageCursor, Pageable, Slice<Task>> nextPage){
+        PageCursor position = PageCursor.decode(cursor);
+        Pageable pageable = PageRequest.of(0, size);
+        Slice<Task> foundTasks = position == null
+                ? firstPage.apply(pageable)
+                : nextPage.apply(position, pageable);
+
+        List<Task> content = foundTasks.getContent();
+        String nextCursor = null;
+        if (foundTasks.hasNext()) {
+            Task last = content.get(content.size() - 1);
+            nextCursor = new PageCursor(last.getCreatedDate().toString(), last.getId()).encode();
+        }
+
+        return CursorPageDto.<TaskReadDto>builder()
+                .content(content.stream().map(taskMapper::toDto).toList())
+                .nextCursor(nextCursor)
+                .hasNext(foundTasks.hasNext())
+                .build();
+    }
+
+    private LocalDateTime createdDateOf(PageCursor position){
+        try {
+            return LocalDateTime.parse(position.getSortKey());
+        } catch (DateTimeParseException e) {
+            throw new DataValidationException("Invalid cursor sort key: " + position.getSortKey());
+        }
+    }
+
+    private boolean isAfter(LocalDateTime from, LocalDateTime to){
+        return from != null && to != null && from.isAfter(to);
+    }
+
+    private float rankOf(PageCursor position){
+        try {
+            return Float.parseFloat(position.getSortKey());
+        } catch (NumberFormatException e) {
+            throw new DataValidationException("Invalid cursor sort key: " + position.getSortKey());
+        }
+    }
+
+    private <E extends Enum<E>> E enumOf(Class<E> type, String value){
+        try {
+            return Enum.valueOf(type, value);
+        } catch (IllegalArgumentException e) {
+            throw new DataValidationException(String.format("Invalid %s: %s", type.getSimpleName().toLowerCase(), value));
+        }
+    }
+
     private Page<TaskReadDto> getTasksByCondition(Long performedId, int page, int size, BiFunction<Long, Pageable, Page<Task>> function){
         Pageable pageable = PageRequest.of(page, size);
         Page<Task> foundTasks = function.apply(performedId, pageable);
@@ -0,0 +1,43 @@
+package com.ansysan.task_management_system.service;
+
+import com.ansysan.task_management_system.entity.Task;
+import com.ansysan.task_management_system.entity.enums.Priority;
+import com.ansysan.task_management_system.entity.enums.Status;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Counter changes collected by one write path and applied with {@link TaskStatsService#apply}.
+ * Keys are kept sorted so concurrent transactions upsert counter rows in the same order.
+ */
+public class TaskStatsDeltas {
+    private static final Comparator<Key> ORDER = Comparator.comparing(Key::performerId)
+            .thenComparing(Key::status)
+            .thenComparing(Key::priority);
+
+    private final Map<Key, Long> deltas = new TreeMap<>(ORDER);
+
+    public TaskStatsDeltas add(Task task, long delta) {
+        Long performerId = task.getPerformer() == null ? null : task.getPerformer().getId();
+        return add(performerId, task.getStatus(), task.getPriority(), delta);
+    }
+
+    public TaskStatsDeltas add(Long performerId, Status status, Priority priority, long delta) {
+        if (performerId != null && status != null && priority != null) {
+            deltas.merge(new Key(performerId, status, priority), delta, Long::sum);
+        }
+        return this;
+    }
+
+    List<Map.Entry<Key, Long>> nonZero() {
+        return deltas.entrySet().stream()
+                .filter(entry -> entry.getValue() != 0)
+                .toList();
+    }
+
+    record Key(Long performerId, Status status, Priority priority) {
+    }
+}
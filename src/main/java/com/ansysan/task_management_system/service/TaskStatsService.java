@@ -0,0 +1,127 @@
+package com.ansysan.task_management_system.service;
+
+import com.ansysan.task_management_system.dto.TaskStatsCountDto;
+import com.ansysan.task_management_system.dto.TaskStatsDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Task counters per performer, status and priority. Every counter is striped over {@code slots} rows
+ * and each transaction adds its deltas to a random slot, so concurrent writes for the same performer
+ * rarely wait on the same row lock. A single slot may go negative; only the sum over slots is meaningful.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Slf4j
+public class TaskStatsService {
+    private static final String UPSERT = "INSERT INTO task_stats (performer_id, status, priority, slot, task_count) " +
+            "VALUES (?, ?, ?, ?, ?) " +
+            "ON CONFLICT (performer_id, status, priority, slot) " +
+            "DO UPDATE SET task_count = task_stats.task_count + EXCLUDED.task_count";
+    private static final String RECONCILE = "INSERT INTO task_stats (performer_id, status, priority, slot, task_count) " +
+            "SELECT performer_id, status, priority, ?, sum(delta) FROM (" +
+            "SELECT performer_id, status, priority, count(*) AS delta FROM task GROUP BY performer_id, status, priority " +
+            "UNION ALL " +
+            "SELECT performer_id, status, priority, -sum(task_count) FROM task_stats GROUP BY performer_id, status, priority" +
+            ") drift GROUP BY performer_id, status, priority HAVING sum(delta) <> 0 " +
+            "ON CONFLICT (performer_id, status, priority, slot) " +
+            "DO UPDATE SET task_count = task_stats.task_count + EXCLUDED.task_count";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${task.stats.slots:8}")
+    private int slots;
+
+    /**
+     * Must run inside the transaction that changes the tasks, so counters commit or roll back with them.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void apply(TaskStatsDeltas deltas){
+        int slot = ThreadLocalRandom.current().nextInt(slots);
+        List<Object[]> rows = deltas.nonZero().stream()
+                .map(entry -> new Object[]{
+                        entry.getKey().performerId(),
+                        entry.getKey().status().name(),
+                        entry.getKey().priority().name(),
+                        slot,
+                        entry.getValue()})
+                .toList();
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPSERT, rows);
+        }
+    }
+
+    public TaskStatsDto getStats(Long performerId){
+        List<TaskStatsCountDto> counts = jdbcTemplate.query(
+                "SELECT status, priority, sum(task_count) AS task_count FROM task_stats " +
+                        "WHERE performer_id = ? GROUP BY status, priority HAVING sum(task_count) <> 0 " +
+                        "ORDER BY status, priority",
+                (resultSet, rowNum) -> new TaskStatsCountDto(resultSet.getString("status"),
+                        resultSet.getString("priority"), resultSet.getLong("task_count")),
+                performerId);
+        log.debug("Task stats found for performer " + performerId);
+        return toDto(performerId, counts);
+    }
+
+    public List<TaskStatsDto> getStats(){
+        Map<Long, List<TaskStatsCountDto>> byPerformer = new LinkedHashMap<>();
+        jdbcTemplate.query(
+                "SELECT performer_id, status, priority, sum(task_count) AS task_count FROM task_stats " +
+                        "GROUP BY performer_id, status, priority HAVING sum(task_count) <> 0 " +
+                        "ORDER BY performer_id, status, priority",
+                resultSet -> {
+                    byPerformer.computeIfAbsent(resultSet.getLong("performer_id"), id -> new ArrayList<>())
+                            .add(new TaskStatsCountDto(resultSet.getString("status"),
+                                    resultSet.getString("priority"), resultSet.getLong("task_count")));
+                });
+        log.debug("Task stats found for " + byPerformer.size() + " performers");
+        return byPerformer.entrySet().stream()
+                .map(entry -> toDto(entry.getKey(), entry.getValue()))
+                .toList();
+    }
+
+    /**
+     * Reconciles the counters with the task table without blocking task writers. One statement reads
+     * the task counts and the counter sums from the same snapshot and adds their difference as a delta,
+     * like {@link #apply}. Writes committed after the snapshot are already in both sides, so the
+     * correction stays exact while writers keep going; only the corrected counter rows are locked, briefly.
+     */
+    @Transactional
+    @Scheduled(cron = "${task.stats.rebuild-cron:-}")
+    public void rebuild(){
+        int rows = jdbcTemplate.update(RECONCILE, ThreadLocalRandom.current().nextInt(slots));
+        log.info("Task stats reconciled, {} counters corrected", rows);
+    }
+
+    private TaskStatsDto toDto(Long performerId, List<TaskStatsCountDto> counts){
+        Map<String, Long> byStatus = new TreeMap<>();
+        Map<String, Long> byPriority = new TreeMap<>();
+        long total = 0;
+        for (TaskStatsCountDto count : counts) {
+            byStatus.merge(count.getStatus(), count.getCount(), Long::sum);
+            byPriority.merge(count.getPriority(), count.getCount(), Long::sum);
+            total += count.getCount();
+        }
+        return TaskStatsDto.builder()
+                .performerId(performerId)
+                .total(total)
+                .byStatus(byStatus)
+                .byPriority(byPriority)
+                .counts(counts)
+                .build();
+    }
+}
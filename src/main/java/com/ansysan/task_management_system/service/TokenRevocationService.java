@@ -0,0 +1,171 @@
+package com.ansysan.task_management_system.service;
+
+import com.ansysan.task_management_system.config.JwtConfig;
+import com.ansysan.task_management_system.service.JwtTokenCache.VerifiedToken;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+
+/**
+ * Revokes tokens by id (jti) or all tokens of a user issued before a "not-before" instant.
+ * Revocations are stored in Redis with a TTL matching the token lifetime and mirrored in memory
+ * on every node, so the per-request check is two hash lookups. The mirror is loaded at startup,
+ * updated through {@link #REVOCATION_CHANNEL} and merged with Redis periodically in case a
+ * message was missed. Revocations are never withdrawn, so merging only adds entries.
+ */
+@Service
+@Slf4j
+public class TokenRevocationService implements MessageListener {
+    public static final String REVOCATION_CHANNEL = "token-revocation";
+    private static final String JTI_KEY = "token:revoked:";
+    private static final String NOT_BEFORE_KEY = "token:not-before:";
+    private static final String JTI_MESSAGE = "jti";
+    private static final String NOT_BEFORE_MESSAGE = "nbf";
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final long maxTokenLifetimeMillis;
+    private final Map<String, Long> revokedTokenExpirations = new ConcurrentHashMap<>();
+    private final Map<String, Long> notBefore = new ConcurrentHashMap<>();
+
+    public TokenRevocationService(StringRedisTemplate redisTemplate,
+                                  RedisMessageListenerContainer listenerContainer,
+                                  JwtConfig jwtConfig) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.maxTokenLifetimeMillis = jwtConfig.getExpiration() * 1000L;
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(REVOCATION_CHANNEL));
+        refresh();
+    }
+
+    public boolean isRevoked(VerifiedToken token) {
+        if (token.id() != null && revokedTokenExpirations.containsKey(token.id())) {
+            return true;
+        }
+        Long subjectNotBefore = notBefore.get(token.subject());
+        return subjectNotBefore != null && token.issuedAtMillis() < subjectNotBefore;
+    }
+
+    /**
+     * Revokes a single token until it expires. Tokens without an id can only be revoked
+     * together with all other tokens of the user.
+     */
+    public void revoke(VerifiedToken token) {
+        if (token.id() == null) {
+            revokeAll(token.subject());
+            return;
+        }
+        long ttl = token.expiresAtMillis() - System.currentTimeMillis();
+        if (ttl <= 0) {
+            return;
+        }
+        applyRevokedToken(token.id(), token.expiresAtMillis());
+        publish(JTI_KEY + token.id(), token.expiresAtMillis(), Duration.ofMillis(ttl),
+                JTI_MESSAGE + ":" + token.expiresAtMillis() + ":" + token.id());
+        log.debug("Token {} of {} revoked", token.id(), token.subject());
+    }
+
+    /**
+     * Revokes every token of the subject issued so far. Token issue times have second precision,
+     * so a token issued within the same second after this call is rejected as well.
+     */
+    public void revokeAll(String subject) {
+        long now = System.currentTimeMillis();
+        applyNotBefore(subject, now);
+        publish(NOT_BEFORE_KEY + subject, now, Duration.ofMillis(maxTokenLifetimeMillis),
+                NOT_BEFORE_MESSAGE + ":" + now + ":" + subject);
+        log.debug("All tokens of {} revoked", subject);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        String[] parts = body.split(":", 3);
+        try {
+            if (parts.length == 3 && parts[0].equals(JTI_MESSAGE)) {
+                applyRevokedToken(parts[2], Long.parseLong(parts[1]));
+            } else if (parts.length == 3 && parts[0].equals(NOT_BEFORE_MESSAGE)) {
+                applyNotBefore(parts[2], Long.parseLong(parts[1]));
+            } else {
+                log.warn("Ignoring malformed token revocation: {}", body);
+            }
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring malformed token revocation: {}", body);
+        }
+    }
+
+    /**
+     * Drops expired entries from the mirror and merges in the revocations stored in Redis.
+     */
+    @Scheduled(fixedDelayString = "${security.jwt.revocation.refresh-interval:PT5M}",
+            initialDelayString = "${security.jwt.revocation.refresh-interval:PT5M}")
+    public void refresh() {
+        long now = System.currentTimeMillis();
+        revokedTokenExpirations.values().removeIf(expiresAt -> expiresAt <= now);
+        notBefore.values().removeIf(instant -> instant + maxTokenLifetimeMillis <= now);
+        try {
+            load(JTI_KEY, this::applyRevokedToken);
+            load(NOT_BEFORE_KEY, this::applyNotBefore);
+        } catch (DataAccessException e) {
+            log.warn("Failed to load token revocations from Redis: {}", e.getMessage());
+        }
+    }
+
+    private void load(String prefix, BiConsumer<String, Long> apply) {
+        List<String> keys = new ArrayList<>();
+        try (Cursor<String> cursor = redisTemplate.scan(ScanOptions.scanOptions().match(prefix + "*").count(1000).build())) {
+            cursor.forEachRemaining(keys::add);
+        }
+        if (keys.isEmpty()) {
+            return;
+        }
+        List<String> values = redisTemplate.opsForValue().multiGet(keys);
+        for (int i = 0; i < keys.size(); i++) {
+            String value = values == null ? null : values.get(i);
+            if (value != null) {
+                apply.accept(keys.get(i).substring(prefix.length()), Long.parseLong(value));
+            }
+        }
+    }
+
+    private void publish(String key, long value, Duration ttl, String message) {
+        try {
+            redisTemplate.opsForValue().set(key, String.valueOf(value), ttl);
+            redisTemplate.convertAndSend(REVOCATION_CHANNEL, message);
+        } catch (DataAccessException e) {
+            log.error("Failed to publish token revocation {}: {}", key, e.getMessage());
+            throw e;
+        }
+    }
+
+    private void applyRevokedToken(String id, Long expiresAt) {
+        if (expiresAt > System.currentTimeMillis()) {
+            revokedTokenExpirations.put(id, expiresAt);
+        }
+    }
+
+    private void applyNotBefore(String subject, Long instant) {
+        notBefore.merge(subject, instant, Math::max);
+    }
+}
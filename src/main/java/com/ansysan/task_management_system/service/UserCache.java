@@ -0,0 +1,240 @@
+package com.ansysan.task_management_system.service;
+
+import com.ansysan.task_management_system.entity.User;
+import com.ansysan.task_management_system.entity.enums.Role;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Two-level cache of users: a size-bounded in-process layer in front of Redis, shared by all
+ * nodes. Invalidations delete the Redis entries and are broadcast on {@link #INVALIDATION_CHANNEL}
+ * so that every node drops its local copy. The local TTL bounds staleness if a broadcast is lost.
+ * <p>
+ * A reader may load a row just before a change commits and store it just after the invalidation.
+ * To keep such a copy out, every invalidation bumps a generation counter in Redis; callers read
+ * {@link #generation()} before loading the user, and {@link #put} stores the user only if no
+ * invalidation happened since, checked atomically with the write.
+ * <p>
+ * Callers always get a new detached {@link User}, so cached state is never shared or modified.
+ * The password hash is never cached: cached users come back without it, and login reads the
+ * credentials from the database. Redis failures degrade to a cache miss.
+ */
+@Component
+@Slf4j
+public class UserCache implements MeterBinder {
+    public static final String INVALIDATION_CHANNEL = "user-cache:invalidate";
+    private static final String ID_KEY = "user:id:";
+    private static final String EMAIL_KEY = "user:email:";
+    private static final String GENERATION_KEY = "user:generation";
+    private static final RedisScript<Long> PUT_SCRIPT = new DefaultRedisScript<>("""
+            if (tonumber(redis.call('GET', KEYS[1])) or 0) ~= tonumber(ARGV[1]) then
+                return 0
+            end
+            redis.call('SET', KEYS[2], ARGV[2], 'PX', ARGV[3])
+            redis.call('SET', KEYS[3], ARGV[2], 'PX', ARGV[3])
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration timeToLive;
+    private final Cache<Long, CachedUser> localById;
+    private final Cache<String, Long> localIdByEmail;
+    private final LongAdder redisHits = new LongAdder();
+    private final LongAdder redisMisses = new LongAdder();
+
+    public UserCache(StringRedisTemplate redisTemplate,
+                     ObjectMapper objectMapper,
+                     @Value("${cache.users.time-to-live:30m}") Duration timeToLive,
+                     @Value("${cache.users.local-max-size:10000}") long localMaxSize,
+                     @Value("${cache.users.local-time-to-live:1m}") Duration localTimeToLive) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.timeToLive = timeToLive;
+        this.localById = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(localTimeToLive)
+                .recordStats()
+                .build();
+        this.localIdByEmail = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(localTimeToLive)
+                .build();
+    }
+
+    public Optional<User> findById(Long id) {
+        CachedUser local = localById.getIfPresent(id);
+        if (local != null) {
+            return Optional.of(local.toUser());
+        }
+        return readRedis(ID_KEY + id).map(this::putLocal).map(CachedUser::toUser);
+    }
+
+    public Optional<User> findByEmail(String email) {
+        Long id = localIdByEmail.getIfPresent(email);
+        if (id != null) {
+            CachedUser local = localById.getIfPresent(id);
+            if (local != null && local.email().equals(email)) {
+                return Optional.of(local.toUser());
+            }
+        }
+        return readRedis(EMAIL_KEY + email).map(this::putLocal).map(CachedUser::toUser);
+    }
+
+    /**
+     * Returns the current invalidation generation, to be read before loading a user that will be
+     * passed to {@link #put}; {@code null} if Redis is unavailable.
+     */
+    public Long generation() {
+        try {
+            String generation = redisTemplate.opsForValue().get(GENERATION_KEY);
+            return generation == null ? 0 : Long.parseLong(generation);
+        } catch (DataAccessException e) {
+            log.warn("Failed to read the user cache generation from Redis: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Stores a user just loaded from the database in both layers, unless a user was invalidated
+     * after {@code generation} was read: the loaded row may then predate the change.
+     */
+    public void put(User user, Long generation) {
+        CachedUser cached = CachedUser.of(user);
+        if (generation == null) {
+            putLocal(cached);
+            return;
+        }
+        try {
+            Long stored = redisTemplate.execute(PUT_SCRIPT,
+                    List.of(GENERATION_KEY, ID_KEY + user.getId(), EMAIL_KEY + user.getEmail()),
+                    String.valueOf(generation),
+                    objectMapper.writeValueAsString(cached),
+                    String.valueOf(timeToLive.toMillis()));
+            if (stored != null && stored == 1) {
+                putLocal(cached);
+            }
+        } catch (JsonProcessingException | DataAccessException e) {
+            log.warn("Failed to cache user {} in Redis: {}", user.getId(), e.getMessage());
+            putLocal(cached);
+        }
+    }
+
+    /**
+     * Removes the user from every node. Inside a transaction this happens after commit, and the
+     * generation bump makes {@link #put} drop copies loaded before it.
+     */
+    public void invalidate(User user) {
+        Long id = user.getId();
+        String email = user.getEmail();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    broadcastInvalidation(id, email);
+                }
+            });
+        } else {
+            broadcastInvalidation(id, email);
+        }
+    }
+
+    /**
+     * Drops the local copies only; called for invalidation messages from any node.
+     */
+    public void evictLocal(Long id, String email) {
+        localById.invalidate(id);
+        if (email != null) {
+            localIdByEmail.invalidate(email);
+        }
+    }
+
+    public void onInvalidationMessage(String message) {
+        int separator = message.indexOf(':');
+        try {
+            Long id = Long.valueOf(separator < 0 ? message : message.substring(0, separator));
+            evictLocal(id, separator < 0 ? null : message.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring malformed user cache invalidation: {}", message);
+        }
+    }
+
+    /**
+     * Exposes the local tier as a Caffeine cache and the Redis tier as hit/miss counters, both
+     * under the standard {@code cache.gets} meter so hit ratios can be compared per tier. The tag
+     * keys match the Spring cache meters, which Prometheus requires for a shared meter name.
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, localById, "users.local", "cache.manager", "caffeine", "name", "users.local");
+        FunctionCounter.builder("cache.gets", redisHits, LongAdder::sum)
+                .tags("cache", "users.redis", "cache.manager", "redis", "name", "users.redis", "result", "hit")
+                .register(registry);
+        FunctionCounter.builder("cache.gets", redisMisses, LongAdder::sum)
+                .tags("cache", "users.redis", "cache.manager", "redis", "name", "users.redis", "result", "miss")
+                .register(registry);
+    }
+
+    private void broadcastInvalidation(Long id, String email) {
+        evictLocal(id, email);
+        try {
+            redisTemplate.opsForValue().increment(GENERATION_KEY);
+            redisTemplate.delete(List.of(ID_KEY + id, EMAIL_KEY + email));
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, id + ":" + email);
+        } catch (DataAccessException e) {
+            log.warn("Failed to invalidate user {} in Redis: {}", id, e.getMessage());
+        }
+    }
+
+    private CachedUser putLocal(CachedUser cached) {
+        localById.put(cached.id(), cached);
+        localIdByEmail.put(cached.email(), cached.id());
+        return cached;
+    }
+
+    private Optional<CachedUser> readRedis(String key) {
+        try {
+            String json = redisTemplate.opsForValue().get(key);
+            (json == null ? redisMisses : redisHits).increment();
+            return json == null ? Optional.empty() : Optional.of(objectMapper.readValue(json, CachedUser.class));
+        } catch (JsonProcessingException | DataAccessException e) {
+            log.warn("Failed to read {} from Redis: {}", key, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    record CachedUser(Long id, String username, String email, Role role) {
+        static CachedUser of(User user) {
+            return new CachedUser(user.getId(), user.getUsername(), user.getEmail(), user.getRole());
+        }
+
+        User toUser() {
+            return User.builder()
+                    .id(id)
+                    .username(username)
+                    .email(email)
+                    .role(role)
+                    .build();
+        }
+    }
+}
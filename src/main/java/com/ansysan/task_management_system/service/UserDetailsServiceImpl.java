@@ -9,7 +9,7 @@ import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
@@ -18,13 +18,17 @@ public class UserDetailsServiceImpl implements UserDetailsService {
     private User user;
     private final UserRepository userRepository;
 
+    /**
+     * Reads the credentials from the database: the user cache holds no password hashes, and at
+     * login the hash check costs far more than the lookup.
+     */
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
         return userRepository.findUserByEmail(email)
                 .map(user -> new User(
                         user.getEmail(),
                         user.getPassword(),
-                        new ArrayList<>()
+                        List.of(user.getRole())
                 ))
                 .orElseThrow(() -> new UsernameNotFoundException("Failed to retrieve user: " + email));
     }
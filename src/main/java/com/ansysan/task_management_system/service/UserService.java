@@ -11,6 +11,12 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -18,13 +24,37 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserService {
     private final UserRepository userRepository;
     private final UserMapper userMapper;
+    private final UserCache userCache;
 
+    /**
+     * Returns the user from the user cache, loading it on a miss. The result is detached
+     * when it comes from the cache.
+     */
     public User findById(Long id) {
-        return userRepository.findById(id).orElseThrow(() -> new UserException("User not found"));
+        Optional<User> cached = userCache.findById(id);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        Long generation = userCache.generation();
+        User user = userRepository.findById(id).orElseThrow(() -> new UserException("User not found"));
+        userCache.put(user, generation);
+        return user;
     }
 
     public User findByEmail(String email) {
-        return userRepository.findUserByEmail(email).orElseThrow(() -> new UserException("User not found"));
+        Optional<User> cached = userCache.findByEmail(email);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        Long generation = userCache.generation();
+        User user = userRepository.findUserByEmail(email).orElseThrow(() -> new UserException("User not found"));
+        userCache.put(user, generation);
+        return user;
+    }
+
+    public Map<Long, User> findAllByIds(Collection<Long> ids) {
+        return userRepository.findAllByIdIn(ids).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
     }
 
     @Transactional
@@ -35,18 +65,22 @@ public class UserService {
         return userMapper.toDto(user);
     }
 
+    @Transactional
     public UserReadDto updateUser(UserCreateDto userDto, long id) {
         log.debug("Updating user: {}", userDto);
         User user = findById(id);
+        userCache.invalidate(user);
         user = userMapper.toEntity(userDto);
         user.setId(id);
         return userMapper.toDto(user);
     }
 
+    @Transactional
     public UserReadDto deleteUser(Long id) {
         log.debug("Deleting user: {}", id);
         User user = findById(id);
         userRepository.deleteUserById(id);
+        userCache.invalidate(user);
         return userMapper.toDto(user);
     }
 }
\ No newline at end of file
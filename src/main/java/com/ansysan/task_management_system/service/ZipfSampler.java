@@ -0,0 +1,97 @@
+package com.ansysan.task_management_system.service;
+
+import java.util.SplittableRandom;
+
+/**
+ * Draws ranks 1..n with probability proportional to {@code 1 / rank^exponent} using rejection-inversion
+ * (Hörmann and Derflinger), so sampling is O(1) and needs no table even for hundreds of millions of
+ * elements. {@link #sampleIndex} spreads the ranks over 0..n-1 with a fixed bijection, so the hot
+ * elements are scattered across the id range instead of being the lowest ids.
+ */
+public final class ZipfSampler {
+    /**
+     * Keeps {@code rank * multiplier} below {@code Long.MAX_VALUE}.
+     */
+    private static final long MAX_ELEMENTS = 3_000_000_000L;
+
+    private final long n;
+    private final double exponent;
+    private final double hIntegralX1;
+    private final double hIntegralN;
+    private final double s;
+    private final long multiplier;
+    private final long offset;
+
+    public ZipfSampler(long n, double exponent, long seed) {
+        if (n < 1 || n > MAX_ELEMENTS) {
+            throw new IllegalArgumentException("n must be between 1 and " + MAX_ELEMENTS + ": " + n);
+        }
+        if (exponent <= 0) {
+            throw new IllegalArgumentException("exponent must be positive: " + exponent);
+        }
+        this.n = n;
+        this.exponent = exponent;
+        this.hIntegralX1 = hIntegral(1.5) - 1;
+        this.hIntegralN = hIntegral(n + 0.5);
+        this.s = 2 - hIntegralInverse(hIntegral(2.5) - h(2));
+        SplittableRandom random = new SplittableRandom(seed);
+        long candidate = n == 1 ? 1 : 1 + random.nextLong(n - 1);
+        while (gcd(candidate, n) != 1) {
+            candidate = candidate % (n - 1) + 1;
+        }
+        this.multiplier = candidate;
+        this.offset = random.nextLong(n);
+    }
+
+    /**
+     * Rank in 1..n; rank 1 is the most frequent.
+     */
+    public long sample(SplittableRandom random) {
+        while (true) {
+            double u = hIntegralN + random.nextDouble() * (hIntegralX1 - hIntegralN);
+            double x = hIntegralInverse(u);
+            long k = Math.max(1, Math.min(n, (long) (x + 0.5)));
+            if (k - x <= s || u >= hIntegral(k + 0.5) - h(k)) {
+                return k;
+            }
+        }
+    }
+
+    /**
+     * Index in 0..n-1, the sampled rank mapped through the bijection.
+     */
+    public long sampleIndex(SplittableRandom random) {
+        return ((sample(random) - 1) * multiplier % n + offset) % n;
+    }
+
+    private double hIntegral(double x) {
+        double logX = Math.log(x);
+        return expm1OverX((1 - exponent) * logX) * logX;
+    }
+
+    private double h(double x) {
+        return Math.exp(-exponent * Math.log(x));
+    }
+
+    private double hIntegralInverse(double x) {
+        double t = Math.max(-1, x * (1 - exponent));
+        return Math.exp(log1pOverX(t) * x);
+    }
+
+    private static double log1pOverX(double x) {
+        return Math.abs(x) > 1e-8 ? Math.log1p(x) / x : 1 - x * (0.5 - x * (1.0 / 3 - 0.25 * x));
+    }
+
+    private static double expm1OverX(double x) {
+        return Math.abs(x) > 1e-8 ? Math.expm1(x) / x : 1 + x * 0.5 * (1 + x * (1.0 / 3) * (1 + 0.25 * x));
+    }
+
+    private static long gcd(long a, long b) {
+        while (b != 0) {
+            long t = a % b;
+            a = b;
+            b = t;
+        }
+        return a;
+    }
+}
@@ -1,4 +1,4 @@
-CREATE TABLE user(
+CREATE TABLE "user"(
     id SERIAL PRIMARY KEY,
     username VARCHAR(255),
     password VARCHAR(255),
@@ -14,8 +14,8 @@ CREATE TABLE task(
     priority VARCHAR(20)  NOT NULL,
     created_date DATE NOT NULL,
     updated_date DATE NOT NULL,
-    author_id BIGINT NOT NULL REFERENCES user (id),
-    performer_id BIGINT NOT NULL REFERENCES user (id)
+    author_id BIGINT NOT NULL REFERENCES "user" (id),
+    performer_id BIGINT NOT NULL REFERENCES "user" (id)
 );
 
 CREATE TABLE comment
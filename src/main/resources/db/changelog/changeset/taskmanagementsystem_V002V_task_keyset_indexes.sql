@@ -0,0 +1,5 @@
+CREATE INDEX idx_task_created_date_id ON task (created_date DESC, id DESC);
+
+CREATE INDEX idx_task_author_created_date_id ON task (author_id, created_date DESC, id DESC);
+
+CREATE INDEX idx_task_performer_created_date_id ON task (performer_id, created_date DESC, id DESC);
@@ -0,0 +1,12 @@
+ALTER TABLE task ADD COLUMN search_vector tsvector GENERATED ALWAYS AS (
+    setweight(to_tsvector('simple', coalesce(header, '')), 'A') ||
+    setweight(to_tsvector('simple', coalesce(description, '')), 'B')
+) STORED;
+
+CREATE INDEX idx_task_search_vector ON task USING GIN (search_vector);
+
+ALTER TABLE comment ADD COLUMN search_vector tsvector GENERATED ALWAYS AS (
+    setweight(to_tsvector('simple', coalesce(text, '')), 'C')
+) STORED;
+
+CREATE INDEX idx_comment_search_vector ON comment USING GIN (search_vector);
@@ -0,0 +1,8 @@
+CREATE INDEX idx_task_status_created_date_id ON task (status, created_date DESC, id DESC);
+
+CREATE INDEX idx_task_performer_status_priority ON task (performer_id, status, priority);
+
+CREATE INDEX idx_task_updated_date_id ON task (updated_date DESC, id DESC);
+
+CREATE INDEX idx_task_performer_open_created_date_id ON task (performer_id, created_date DESC, id DESC)
+    WHERE status <> 'COMPLETED';
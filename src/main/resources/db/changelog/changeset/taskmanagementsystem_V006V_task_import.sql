@@ -0,0 +1,10 @@
+CREATE TABLE task_import(
+    id VARCHAR(64) PRIMARY KEY,
+    rows_processed BIGINT NOT NULL DEFAULT 0,
+    rows_imported BIGINT NOT NULL DEFAULT 0,
+    rows_rejected BIGINT NOT NULL DEFAULT 0,
+    completed BOOLEAN NOT NULL DEFAULT false,
+    created_date TIMESTAMP NOT NULL,
+    updated_date TIMESTAMP NOT NULL,
+    version BIGINT NOT NULL DEFAULT 0
+);
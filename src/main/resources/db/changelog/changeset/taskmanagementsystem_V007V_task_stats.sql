@@ -0,0 +1,13 @@
+CREATE TABLE task_stats(
+    performer_id BIGINT NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    priority VARCHAR(20) NOT NULL,
+    slot SMALLINT NOT NULL,
+    task_count BIGINT NOT NULL,
+    PRIMARY KEY (performer_id, status, priority, slot)
+);
+
+INSERT INTO task_stats (performer_id, status, priority, slot, task_count)
+SELECT performer_id, status, priority, 0, count(*)
+FROM task
+GROUP BY performer_id, status, priority;
@@ -1,3 +1,3 @@
-DROP TABLE user;
+DROP TABLE "user";
 DROP TABLE task;
 DROP TABLE comment;
\ No newline at end of file
@@ -0,0 +1,111 @@
+package com.ansysan.task_management_system.config;
+
+import com.ansysan.task_management_system.exception.ServiceOverloadedException;
+import com.ansysan.task_management_system.handler.GlobalExceptionHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BoundedPasswordEncoderTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private BoundedPasswordEncoder encoder;
+
+    @AfterEach
+    public void tearDown() {
+        if (encoder != null) {
+            encoder.shutdown();
+        }
+    }
+
+    @Test
+    public void testEncodeAndMatches_DelegateOnPool() {
+        encoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(4), 2, 4,
+                Duration.ofSeconds(5), Duration.ofSeconds(2), meterRegistry);
+
+        String hash = encoder.encode("secret");
+
+        assertTrue(encoder.matches("secret", hash));
+        assertFalse(encoder.matches("other", hash));
+        assertEquals(1, meterRegistry.get("auth.password.hash").tag("operation", "encode").timer().count());
+        assertEquals(2, meterRegistry.get("auth.password.hash").tag("operation", "matches").timer().count());
+    }
+
+    @Test
+    public void testEncode_RejectsWhenQueueIsFull() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        encoder = new BoundedPasswordEncoder(blocking(started, release), 1, 1,
+                Duration.ofSeconds(5), Duration.ofSeconds(2), meterRegistry);
+
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("first"));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> encoder.encode("second"));
+        while (meterRegistry.get("auth.password.hash.queue").gauge().value() < 1) {
+            Thread.sleep(10);
+        }
+
+        ServiceOverloadedException exception = assertThrows(ServiceOverloadedException.class,
+                () -> encoder.encode("third"));
+        release.countDown();
+
+        assertEquals("hash", running.get(5, TimeUnit.SECONDS));
+        assertEquals("hash", queued.get(5, TimeUnit.SECONDS));
+        assertEquals(Duration.ofSeconds(2), exception.getRetryAfter());
+        assertEquals(1, meterRegistry.get("auth.password.hash.rejected").counter().count());
+    }
+
+    @Test
+    public void testEncode_TimesOutWhileQueued() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        encoder = new BoundedPasswordEncoder(blocking(started, release), 1, 4,
+                Duration.ofMillis(100), Duration.ofSeconds(2), meterRegistry);
+
+        CompletableFuture.runAsync(() -> encoder.encode("first"));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        assertThrows(ServiceOverloadedException.class, () -> encoder.encode("second"));
+        release.countDown();
+    }
+
+    @Test
+    public void testHandler_Returns503WithRetryAfter() {
+        ResponseEntity<String> response = new GlobalExceptionHandler().handlerServiceOverloadedException(
+                new ServiceOverloadedException("busy", Duration.ofSeconds(3)));
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertEquals("3", response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+    }
+
+    private static PasswordEncoder blocking(CountDownLatch started, CountDownLatch release) {
+        return new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                started.countDown();
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return "hash";
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return false;
+            }
+        };
+    }
+}
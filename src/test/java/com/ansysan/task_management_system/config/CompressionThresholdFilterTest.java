@@ -0,0 +1,105 @@
+package com.ansysan.task_management_system.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CompressionThresholdFilterTest {
+
+    @Test
+    public void testFlush_HeldBackBelowThreshold() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter(true).doFilter(new MockHttpServletRequest(), response, (req, res) -> {
+            res.getOutputStream().write("small".getBytes(StandardCharsets.UTF_8));
+            res.getOutputStream().flush();
+            res.flushBuffer();
+        });
+
+        assertFalse(response.isCommitted());
+        assertEquals("small", response.getContentAsString());
+    }
+
+    @Test
+    public void testFlush_PassedThroughFromThreshold() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter(true).doFilter(new MockHttpServletRequest(), response, (req, res) -> {
+            res.getOutputStream().write(new byte[16]);
+            res.getOutputStream().flush();
+        });
+
+        assertTrue(response.isCommitted());
+    }
+
+    @Test
+    public void testWriterFlush_HeldBackBelowThreshold() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter(true).doFilter(new MockHttpServletRequest(), response, (req, res) -> {
+            res.getWriter().write("small");
+            res.getWriter().flush();
+            res.flushBuffer();
+        });
+
+        assertFalse(response.isCommitted());
+        assertEquals("small", response.getContentAsString());
+    }
+
+    @Test
+    public void testWriterFlush_PassedThroughFromThreshold() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter(true).doFilter(new MockHttpServletRequest(), response, (req, res) -> {
+            res.getWriter().write("sixteen chars...");
+            res.getWriter().flush();
+        });
+
+        assertTrue(response.isCommitted());
+    }
+
+    @Test
+    public void testFlush_HeldBackBelowThresholdAfterReset() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter(true).doFilter(new MockHttpServletRequest(), response, (req, res) -> {
+            res.getOutputStream().write(new byte[16]);
+            res.reset();
+            res.getOutputStream().write("small".getBytes(StandardCharsets.UTF_8));
+            res.flushBuffer();
+
+            res.resetBuffer();
+            res.getOutputStream().write(new byte[8]);
+            res.resetBuffer();
+            res.getOutputStream().write(new byte[8]);
+            res.flushBuffer();
+        });
+
+        assertFalse(response.isCommitted());
+    }
+
+    @Test
+    public void testFlush_UntouchedWhenCompressionDisabled() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter(false).doFilter(new MockHttpServletRequest(), response, (req, res) -> {
+            res.getOutputStream().write(1);
+            res.getOutputStream().flush();
+        });
+
+        assertTrue(response.isCommitted());
+    }
+
+    private CompressionThresholdFilter filter(boolean enabled) {
+        ServerProperties serverProperties = new ServerProperties();
+        serverProperties.getCompression().setEnabled(enabled);
+        serverProperties.getCompression().setMinResponseSize(DataSize.ofBytes(16));
+        return new CompressionThresholdFilter(serverProperties);
+    }
+}
@@ -0,0 +1,50 @@
+package com.ansysan.task_management_system.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SqlStatementCounterTest {
+
+    private final SqlStatementCounter counter = new SqlStatementCounter();
+
+    @Test
+    public void testInspect_GroupsStatementsByShape() {
+        try (SqlStatementCounter.Scope scope = SqlStatementCounter.start()) {
+            counter.inspect("select * from task where id=?");
+            counter.inspect("select *\n  from task where id=?");
+            counter.inspect("select * from comment where task_id in (?, ?, ?)");
+            counter.inspect("select * from comment where task_id in (?,?)");
+
+            assertEquals(4, scope.count());
+            assertEquals(Map.of("select * from task where id=?", 2,
+                    "select * from comment where task_id in (?...)", 2), scope.shapes());
+        }
+    }
+
+    @Test
+    public void testInspect_CountsTowardsEnclosingScopes() {
+        try (SqlStatementCounter.Scope outer = SqlStatementCounter.start()) {
+            counter.inspect("select 1");
+            try (SqlStatementCounter.Scope inner = SqlStatementCounter.start()) {
+                counter.inspect("select 2");
+                counter.inspect("select 2");
+                assertEquals(2, inner.count());
+                assertEquals(Map.entry("select 2", 2), inner.mostRepeated());
+            }
+            counter.inspect("select 3");
+            assertEquals(4, outer.count());
+        }
+    }
+
+    @Test
+    public void testInspect_IgnoredWithoutScope() {
+        assertEquals("select 1", counter.inspect("select 1"));
+        try (SqlStatementCounter.Scope scope = SqlStatementCounter.start()) {
+            assertEquals(0, scope.count());
+            assertNull(scope.mostRepeated());
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.ansysan.task_management_system.controller;
+
+import com.ansysan.task_management_system.entity.Task;
+import com.ansysan.task_management_system.entity.User;
+import com.ansysan.task_management_system.entity.enums.Priority;
+import com.ansysan.task_management_system.entity.enums.Role;
+import com.ansysan.task_management_system.entity.enums.Status;
+import com.ansysan.task_management_system.repository.TaskRepository;
+import com.ansysan.task_management_system.repository.UserRepository;
+import com.ansysan.task_management_system.util.BaseTest;
+import com.fasterxml.jackson.databind.JsonNode;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WithMockUser(roles = "ADMIN")
+public class AdminControllerTest extends BaseTest {
+    private static final int USERS = 5;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Set<Long> userIds;
+
+    @BeforeAll
+    public void setUpData() {
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            users.add(User.builder()
+                    .username("admin-list-" + i)
+                    .email("admin-list-" + i + "@example.com")
+                    .password("password")
+                    .role(Role.USER)
+                    .build());
+        }
+        users = userRepository.saveAll(users);
+        userIds = users.stream().map(User::getId).collect(Collectors.toSet());
+
+        taskRepository.save(Task.builder()
+                .header("Listed user task")
+                .description("Description")
+                .status(Status.PENDING)
+                .priority(Priority.LOW)
+                .createdDate(LocalDateTime.now())
+                .updatedDate(LocalDateTime.now())
+                .author(users.get(0))
+                .performer(users.get(1))
+                .build());
+    }
+
+    @Test
+    @DisplayName("Cursor pages cover every user once in id order with one query per page")
+    public void testGetUsers_CursorPages() throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        List<Long> ids = new ArrayList<>();
+        String cursor = "";
+        boolean hasNext = true;
+        while (hasNext) {
+            statistics.clear();
+            JsonNode page = objectMapper.readTree(mockMvc.perform(get("/admin/users")
+                            .param("cursor", cursor)
+                            .param("limit", "2"))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString());
+            assertEquals(1, statistics.getPrepareStatementCount());
+            assertEquals(0, statistics.getEntityLoadCount());
+
+            page.get("content").forEach(user -> ids.add(user.get("id").asLong()));
+            hasNext = page.get("hasNext").asBoolean();
+            cursor = page.get("nextCursor").asText();
+        }
+
+        assertEquals(ids.stream().sorted().toList(), ids);
+        assertEquals(ids.size(), Set.copyOf(ids).size());
+        assertTrue(ids.containsAll(userIds));
+    }
+
+    @Test
+    @DisplayName("Page size above the maximum is rejected")
+    public void testGetUsers_PageTooLarge() throws Exception {
+        mockMvc.perform(get("/admin/users").param("limit", "501"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Export streams one JSON object per user")
+    public void testExportUsers() throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        MvcResult result = mockMvc.perform(get("/admin/users/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        Set<Long> exported = new HashSet<>();
+        for (String line : body.split("\n")) {
+            JsonNode user = objectMapper.readTree(line);
+            exported.add(user.get("id").asLong());
+        }
+        assertTrue(exported.containsAll(userIds));
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+}
@@ -0,0 +1,86 @@
+package com.ansysan.task_management_system.controller;
+
+import com.ansysan.task_management_system.entity.Task;
+import com.ansysan.task_management_system.entity.User;
+import com.ansysan.task_management_system.repository.TaskRepository;
+import com.ansysan.task_management_system.repository.UserRepository;
+import com.ansysan.task_management_system.util.BaseTest;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WithMockUser(roles = "ADMIN")
+public class ContentNegotiationTest extends BaseTest {
+    private static final MediaType SMILE = MediaType.valueOf("application/x-jackson-smile");
+    private static final MediaType CBOR = MediaType.valueOf("application/cbor");
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    private User author;
+    private Task task;
+
+    @BeforeEach
+    public void setUpTask() {
+        if (author == null) {
+            author = userRepository.save(user("negotiation-author@example.com"));
+        }
+        task = taskRepository.save(task(author));
+    }
+
+    @Test
+    @DisplayName("JSON stays the default representation")
+    public void testGetTask_JsonByDefault() throws Exception {
+        mockMvc.perform(get("/{id}", task.getId()).accept(MediaType.ALL))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    @DisplayName("Smile and CBOR carry the same fields and values as JSON")
+    public void testGetTask_BinaryFormats() throws Exception {
+        JsonNode json = objectMapper.readTree(mockMvc.perform(get("/{id}", task.getId()))
+                .andReturn().getResponse().getContentAsByteArray());
+
+        byte[] smile = mockMvc.perform(get("/{id}", task.getId()).accept(SMILE))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(SMILE))
+                .andReturn().getResponse().getContentAsByteArray();
+        byte[] cbor = mockMvc.perform(get("/{id}", task.getId()).accept(CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        assertEquals(json, new ObjectMapper(new SmileFactory()).readTree(smile));
+        assertEquals(json, new ObjectMapper(new CBORFactory()).readTree(cbor));
+    }
+
+    @Test
+    @DisplayName("Task pages are negotiated too")
+    public void testGetAllTasks_Smile() throws Exception {
+        byte[] smile = mockMvc.perform(get("/").param("offset", "0").param("limit", "5").accept(SMILE))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(SMILE))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        JsonNode page = new ObjectMapper(new SmileFactory()).readTree(smile);
+        assertTrue(page.get("content").size() > 0);
+        assertTrue(page.get("content").get(0).get("author").has("email"));
+    }
+}
@@ -0,0 +1,105 @@
+package com.ansysan.task_management_system.controller;
+
+import com.ansysan.task_management_system.entity.enums.Role;
+import com.ansysan.task_management_system.service.JwtService;
+import com.ansysan.task_management_system.util.BaseTest;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+public class JwtAuthenticationTest extends BaseTest {
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    @DisplayName("A valid token authenticates from its claims without loading the user")
+    public void testValidToken_NoUserQuery() throws Exception {
+        String token = token(Role.ADMIN);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        mockMvc.perform(get("/stats/performer/{id}", Long.MAX_VALUE)
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isOk());
+
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("Role from the authorities claim is enforced")
+    public void testUserToken_Forbidden() throws Exception {
+        mockMvc.perform(get("/stats/performer/{id}", Long.MAX_VALUE)
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token(Role.USER)))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("A tampered token is not authenticated")
+    public void testTamperedToken_Unauthorized() throws Exception {
+        String token = token(Role.ADMIN);
+        mockMvc.perform(get("/stats/performer/{id}", Long.MAX_VALUE)
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token.substring(0, token.length() - 2) + "xx"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("A token stops working after logout")
+    public void testLogout_RevokesToken() throws Exception {
+        String token = token(Role.ADMIN);
+        mockMvc.perform(get("/stats/performer/{id}", Long.MAX_VALUE)
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(post("/auth/logout").header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/stats/performer/{id}", Long.MAX_VALUE)
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("Revoke-all rejects every token issued to the user before it")
+    public void testRevokeAll_RevokesEveryToken() throws Exception {
+        String first = token(Role.ADMIN, "jwt-revoke-all@example.com");
+        String second = token(Role.ADMIN, "jwt-revoke-all@example.com");
+        String other = token(Role.ADMIN);
+
+        mockMvc.perform(post("/auth/revoke-all").header(HttpHeaders.AUTHORIZATION, "Bearer " + first))
+                .andExpect(status().isNoContent());
+
+        for (String revoked : new String[]{first, second}) {
+            mockMvc.perform(get("/stats/performer/{id}", Long.MAX_VALUE)
+                            .header(HttpHeaders.AUTHORIZATION, "Bearer " + revoked))
+                    .andExpect(status().isUnauthorized());
+        }
+        mockMvc.perform(get("/stats/performer/{id}", Long.MAX_VALUE)
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + other))
+                .andExpect(status().isOk());
+    }
+
+    private String token(Role role) {
+        return token(role, "jwt-" + role.name().toLowerCase() + "@example.com");
+    }
+
+    private String token(Role role, String subject) {
+        return jwtService.generateToken(UsernamePasswordAuthenticationToken.authenticated(
+                subject, null, List.of(role)));
+    }
+}
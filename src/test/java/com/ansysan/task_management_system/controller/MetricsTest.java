@@ -0,0 +1,66 @@
+package com.ansysan.task_management_system.controller;
+
+import com.ansysan.task_management_system.entity.enums.Role;
+import com.ansysan.task_management_system.service.JwtService;
+import com.ansysan.task_management_system.util.BaseTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@AutoConfigureObservability
+public class MetricsTest extends BaseTest {
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Test
+    @DisplayName("Prometheus scrape exposes service, auth, pool, Hibernate and cache metrics")
+    public void testPrometheusScrape() throws Exception {
+        String token = jwtService.generateToken(UsernamePasswordAuthenticationToken.authenticated(
+                "metrics@example.com", null, List.of(Role.ADMIN)));
+        mockMvc.perform(get("/{id}", Long.MAX_VALUE)
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().is4xxClientError());
+
+        String scrape = mockMvc.perform(get("/actuator/prometheus")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        for (String metric : List.of(
+                "task_service_seconds_bucket{",
+                "method=\"getTask\"",
+                "auth_jwt_verify_seconds_bucket{",
+                "hikaricp_connections_active",
+                "hibernate_statements_total",
+                "hibernate_entities_loads_total",
+                "cache_gets_total{application=\"TaskManagementSystem\",cache=\"jwt.tokens\"",
+                "cache_gets_total{application=\"TaskManagementSystem\",cache=\"users.local\"",
+                "cache_gets_total{application=\"TaskManagementSystem\",cache=\"users.redis\"",
+                "cache_gets_total{application=\"TaskManagementSystem\",cache=\"tasks\"")) {
+            assertTrue(scrape.contains(metric), metric);
+        }
+    }
+
+    @Test
+    @DisplayName("Only admins can read the Prometheus scrape")
+    public void testPrometheusScrape_AdminOnly() throws Exception {
+        String userToken = jwtService.generateToken(UsernamePasswordAuthenticationToken.authenticated(
+                "metrics-user@example.com", null, List.of(Role.USER)));
+
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/actuator/prometheus")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + userToken))
+                .andExpect(status().isForbidden());
+    }
+}
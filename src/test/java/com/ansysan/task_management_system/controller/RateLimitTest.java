@@ -0,0 +1,85 @@
+package com.ansysan.task_management_system.controller;
+
+import com.ansysan.task_management_system.entity.enums.Role;
+import com.ansysan.task_management_system.service.JwtService;
+import com.ansysan.task_management_system.util.BaseTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+public class RateLimitTest extends BaseTest {
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Test
+    @DisplayName("Responses carry the limits of the caller's role")
+    public void testRateLimitHeaders() throws Exception {
+        mockMvc.perform(get("/stats/performer/{id}", Long.MAX_VALUE)
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token(Role.ADMIN)))
+                .andExpect(status().isOk())
+                .andExpect(header().string("RateLimit-Limit", "600"))
+                .andExpect(header().exists("RateLimit-Remaining"))
+                .andExpect(header().exists("RateLimit-Reset"));
+    }
+
+    @Test
+    @DisplayName("A page larger than the bucket is rejected with 429")
+    public void testHugeLimit_TooManyRequests() throws Exception {
+        mockMvc.perform(get("/")
+                        .param("offset", "0")
+                        .param("limit", "1000000")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token(Role.USER)))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("RateLimit-Limit", "120"))
+                .andExpect(header().exists(HttpHeaders.RETRY_AFTER));
+    }
+
+    @Test
+    @DisplayName("A rejected over-budget request leaves the bucket for normal requests")
+    public void testHugeLimit_DoesNotDrainBucket() throws Exception {
+        String token = token(Role.USER);
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(get("/").param("offset", "0").param("limit", "1000000")
+                            .header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                    .andExpect(status().isTooManyRequests());
+        }
+
+        mockMvc.perform(get("/").param("offset", "0").param("limit", "1")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isForbidden())
+                .andExpect(header().string("RateLimit-Limit", "120"));
+    }
+
+    @Test
+    @DisplayName("An exhausted bucket rejects further requests on the same route only")
+    public void testExhaustedBucket_TooManyRequests() throws Exception {
+        String token = token(Role.USER);
+        mockMvc.perform(get("/").param("offset", "0").param("limit", "12000")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isForbidden());
+
+        mockMvc.perform(get("/").param("offset", "0").param("limit", "10000")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists(HttpHeaders.RETRY_AFTER));
+
+        mockMvc.perform(get("/author/{id}", Long.MAX_VALUE).param("offset", "0").param("limit", "1")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isForbidden());
+    }
+
+    private String token(Role role) {
+        return jwtService.generateToken(UsernamePasswordAuthenticationToken.authenticated(
+                "rate-limit-" + UUID.randomUUID() + "@example.com", null, List.of(role)));
+    }
+}
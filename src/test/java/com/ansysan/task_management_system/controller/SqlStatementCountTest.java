@@ -0,0 +1,77 @@
+package com.ansysan.task_management_system.controller;
+
+import com.ansysan.task_management_system.config.SqlStatementCountFilter;
+import com.ansysan.task_management_system.entity.Task;
+import com.ansysan.task_management_system.entity.User;
+import com.ansysan.task_management_system.entity.enums.Priority;
+import com.ansysan.task_management_system.entity.enums.Role;
+import com.ansysan.task_management_system.entity.enums.Status;
+import com.ansysan.task_management_system.repository.TaskRepository;
+import com.ansysan.task_management_system.repository.UserRepository;
+import com.ansysan.task_management_system.util.BaseTest;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.security.test.context.support.WithMockUser;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WithMockUser(roles = "ADMIN")
+public class SqlStatementCountTest extends BaseTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private Task task;
+
+    @BeforeAll
+    public void setUpData() {
+        User user = userRepository.save(User.builder()
+                .username("statement-count")
+                .email("statement-count@example.com")
+                .password("password")
+                .role(Role.USER)
+                .build());
+        task = taskRepository.save(Task.builder()
+                .header("Counted task")
+                .description("Description")
+                .status(Status.PENDING)
+                .priority(Priority.LOW)
+                .createdDate(LocalDateTime.now())
+                .updatedDate(LocalDateTime.now())
+                .author(user)
+                .performer(user)
+                .build());
+    }
+
+    @Test
+    @DisplayName("The statement count is reported in a response header")
+    public void testStatementCountHeader() throws Exception {
+        cacheManager.getCache("tasks").evict(task.getId());
+
+        performWithMaxStatements(get("/{id}", task.getId()), 1)
+                .andExpect(status().isOk())
+                .andExpect(header().string(SqlStatementCountFilter.HEADER, "1"));
+    }
+
+    @Test
+    @DisplayName("Exceeding the statement budget fails the test")
+    public void testStatementBudgetExceeded() {
+        cacheManager.getCache("tasks").evict(task.getId());
+
+        assertThrows(AssertionError.class, () -> performWithMaxStatements(get("/{id}", task.getId()), 0));
+    }
+}
@@ -0,0 +1,200 @@
+package com.ansysan.task_management_system.controller;
+
+import com.ansysan.task_management_system.config.JacksonConfig;
+import com.ansysan.task_management_system.dto.TaskCreateDto;
+import com.ansysan.task_management_system.dto.TaskReadDto;
+import com.ansysan.task_management_system.dto.UserReadDto;
+import com.ansysan.task_management_system.entity.Task;
+import com.ansysan.task_management_system.entity.User;
+import com.ansysan.task_management_system.entity.enums.Priority;
+import com.ansysan.task_management_system.entity.enums.Role;
+import com.ansysan.task_management_system.entity.enums.Status;
+import com.ansysan.task_management_system.repository.TaskRepository;
+import com.ansysan.task_management_system.repository.UserRepository;
+import com.ansysan.task_management_system.service.TaskService;
+import com.ansysan.task_management_system.util.BaseTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WithMockUser(roles = "ADMIN")
+public class TaskControllerETagTest extends BaseTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private User performer;
+    private Task task;
+
+    @BeforeEach
+    public void setUpTask() {
+        if (performer == null) {
+            performer = userRepository.save(User.builder()
+                    .username("etag-performer@example.com")
+                    .email("etag-performer@example.com")
+                    .password("password")
+                    .role(Role.USER)
+                    .build());
+        }
+        task = taskRepository.save(Task.builder()
+                .header("Header")
+                .description("Description")
+                .status(Status.PENDING)
+                .priority(Priority.LOW)
+                .createdDate(LocalDateTime.now())
+                .updatedDate(LocalDateTime.now())
+                .author(performer)
+                .performer(performer)
+                .build());
+    }
+
+    @Test
+    @DisplayName("Matching If-None-Match returns 304 without a body")
+    public void testGetTask_NotModified() throws Exception {
+        String eTag = mockMvc.perform(get("/{id}", task.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag(0, "json")))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/{id}", task.getId()).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @DisplayName("Each format and expansion has its own ETag, so one never revalidates another")
+    public void testGetTask_ETagPerRepresentation() throws Exception {
+        String json = mockMvc.perform(get("/{id}", task.getId()))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/{id}", task.getId()).accept(JacksonConfig.APPLICATION_SMILE)
+                        .header(HttpHeaders.IF_NONE_MATCH, json))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag(0, "x-jackson-smile")))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT));
+        mockMvc.perform(get("/{id}", task.getId()).accept(MediaType.APPLICATION_CBOR)
+                        .header(HttpHeaders.IF_NONE_MATCH, json))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag(0, "cbor")));
+        mockMvc.perform(get("/{id}", task.getId()).param("expand", "comments")
+                        .header(HttpHeaders.IF_NONE_MATCH, json))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag(0, "json-comments")));
+    }
+
+    @Test
+    @DisplayName("PATCH accepts the current ETag of any representation")
+    public void testChangeTask_IfMatchAnyRepresentation() throws Exception {
+        mockMvc.perform(patch("/{id}", task.getId())
+                        .header(HttpHeaders.IF_MATCH, eTag(0, "cbor-comments"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(TaskCreateDto.builder()
+                                .header("Changed")
+                                .description("Changed")
+                                .status("PROGRESS")
+                                .priority("HIGH")
+                                .performerId(UserReadDto.builder().id(performer.getId()).build())
+                                .build())))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag(1, "json")));
+    }
+
+    @Test
+    @DisplayName("Touching the task, e.g. by commenting, changes its ETag")
+    public void testGetTask_ModifiedAfterTouch() throws Exception {
+        String eTag = mockMvc.perform(get("/{id}", task.getId()))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        taskService.touchTask(task.getId());
+
+        String newETag = mockMvc.perform(get("/{id}", task.getId()).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotEquals(eTag, newETag);
+    }
+
+    @Test
+    @DisplayName("PATCH with a stale, weak or foreign If-Match returns 412")
+    public void testChangeTask_IfMatchMismatch() throws Exception {
+        String body = objectMapper.writeValueAsString(TaskCreateDto.builder()
+                .header("Changed")
+                .description("Changed")
+                .status("PROGRESS")
+                .priority("HIGH")
+                .performerId(UserReadDto.builder().id(performer.getId()).build())
+                .build());
+        taskService.touchTask(task.getId());
+
+        for (String ifMatch : new String[]{
+                eTag(0, "json"),
+                "W/" + eTag(1, "json"),
+                "\"" + (task.getId() + 1) + "-1-json\""}) {
+            mockMvc.perform(patch("/{id}", task.getId())
+                            .header(HttpHeaders.IF_MATCH, ifMatch)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(body))
+                    .andExpect(status().isPreconditionFailed());
+        }
+        assertEquals(1L, taskService.getTaskVersion(task.getId()));
+    }
+
+    @Test
+    @DisplayName("A cached copy older than the stored version is reloaded, also after a 412")
+    public void testGetTask_StaleCachedCopy() throws Exception {
+        String staleETag = eTag(0, "json");
+        TaskReadDto stale = taskService.getTask(task.getId());
+        taskService.touchTask(task.getId());
+        cacheManager.getCache("tasks").put(task.getId(), stale);
+
+        mockMvc.perform(get("/{id}", task.getId()).header(HttpHeaders.IF_NONE_MATCH, staleETag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag(1, "json")));
+
+        cacheManager.getCache("tasks").put(task.getId(), stale);
+        mockMvc.perform(patch("/{id}", task.getId())
+                        .header(HttpHeaders.IF_MATCH, staleETag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(TaskCreateDto.builder()
+                                .header("Changed")
+                                .description("Changed")
+                                .status("PROGRESS")
+                                .priority("HIGH")
+                                .performerId(UserReadDto.builder().id(performer.getId()).build())
+                                .build())))
+                .andExpect(status().isPreconditionFailed());
+        mockMvc.perform(get("/{id}", task.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag(1, "json")));
+    }
+
+    private String eTag(long version, String representation) {
+        return "\"" + task.getId() + "-" + version + "-" + representation + "\"";
+    }
+}
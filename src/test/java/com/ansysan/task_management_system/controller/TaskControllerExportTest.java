@@ -0,0 +1,129 @@
+package com.ansysan.task_management_system.controller;
+
+import com.ansysan.task_management_system.entity.Task;
+import com.ansysan.task_management_system.entity.User;
+import com.ansysan.task_management_system.entity.enums.Priority;
+import com.ansysan.task_management_system.entity.enums.Role;
+import com.ansysan.task_management_system.entity.enums.Status;
+import com.ansysan.task_management_system.repository.TaskRepository;
+import com.ansysan.task_management_system.repository.UserRepository;
+import com.ansysan.task_management_system.util.BaseTest;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WithMockUser(roles = "ADMIN")
+public class TaskControllerExportTest extends BaseTest {
+    private static final int TASKS = 25;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    private User author;
+
+    @BeforeAll
+    public void setUpData() {
+        author = userRepository.save(User.builder()
+                .username("export-author")
+                .email("export-author@example.com")
+                .password("password")
+                .role(Role.ADMIN)
+                .build());
+
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < TASKS; i++) {
+            tasks.add(Task.builder()
+                    .header("Task " + i)
+                    .description(i == 0 ? "Needs \"quotes\", commas" : "Description " + i)
+                    .status(i % 5 == 0 ? Status.COMPLETED : Status.PENDING)
+                    .priority(Priority.LOW)
+                    .createdDate(LocalDateTime.now())
+                    .updatedDate(LocalDateTime.now())
+                    .author(author)
+                    .performer(author)
+                    .build());
+        }
+        taskRepository.saveAll(tasks);
+    }
+
+    @Test
+    @DisplayName("Export streams one JSON object per line")
+    public void testExportNdjson() throws Exception {
+        MockHttpServletResponse response = perform(get("/export")
+                .param("authorId", String.valueOf(author.getId()))
+                .param("status", "PENDING"));
+
+        assertNull(response.getHeader(HttpHeaders.CONTENT_ENCODING));
+        String[] lines = response.getContentAsString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(20, lines.length);
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertEquals("PENDING", first.get("status").asText());
+        assertEquals("export-author@example.com", first.get("authorEmail").asText());
+    }
+
+    @Test
+    @DisplayName("Export writes gzip-compressed CSV when the client accepts gzip")
+    public void testExportCsvGzip() throws Exception {
+        MockHttpServletResponse response = perform(get("/export")
+                .param("authorId", String.valueOf(author.getId()))
+                .param("format", "csv")
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"));
+
+        assertEquals("gzip", response.getHeader(HttpHeaders.CONTENT_ENCODING));
+        String csv = gunzip(response.getContentAsByteArray());
+        String[] lines = csv.split("\n");
+        assertEquals(TASKS + 1, lines.length);
+        assertEquals("id,header,description,status,priority,createdTime,updatedTime,"
+                + "authorId,authorEmail,performerId,performerEmail", lines[0]);
+        assertTrue(csv.contains("\"Needs \"\"quotes\"\", commas\""));
+    }
+
+    @Test
+    @DisplayName("Unsupported export format is rejected")
+    public void testExportUnsupportedFormat() throws Exception {
+        mockMvc.perform(get("/export").param("format", "xml"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private MockHttpServletResponse perform(RequestBuilder request) throws Exception {
+        MvcResult result = mockMvc.perform(request)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse();
+    }
+
+    private String gunzip(byte[] body) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.ansysan.task_management_system.controller;
+
+import com.ansysan.task_management_system.dto.TaskFileFormat;
+import com.ansysan.task_management_system.dto.TaskImportResultDto;
+import com.ansysan.task_management_system.entity.Task;
+import com.ansysan.task_management_system.entity.User;
+import com.ansysan.task_management_system.exception.DataValidationException;
+import com.ansysan.task_management_system.repository.TaskImportRepository;
+import com.ansysan.task_management_system.repository.TaskRepository;
+import com.ansysan.task_management_system.repository.UserRepository;
+import com.ansysan.task_management_system.service.TaskImportService;
+import com.ansysan.task_management_system.util.BaseTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WithMockUser(roles = "ADMIN")
+public class TaskControllerImportTest extends BaseTest {
+    private static final String CSV_HEADER = "header,description,status,priority,authorEmail,performerEmail,createdTime,source\n";
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskImportService taskImportService;
+
+    @Autowired
+    private TaskImportRepository taskImportRepository;
+
+    @BeforeAll
+    public void setUpData() {
+        userRepository.save(user("import-author@example.com"));
+        userRepository.save(user("import-performer@example.com"));
+    }
+
+    @AfterEach
+    public void resetChunkSize() {
+        ReflectionTestUtils.setField(taskImportService, "chunkSize", 5000);
+    }
+
+    @Test
+    @DisplayName("CSV import writes valid rows and reports rejected ones")
+    public void testImportCsv() throws Exception {
+        long before = taskRepository.count();
+        String csv = CSV_HEADER
+                + "\"Quoted, \"\"header\"\"\",First,PENDING,LOW,import-author@example.com,import-performer@example.com,2024-05-01T10:00:00,jira\n"
+                + "Second,Second,DONE,LOW,import-author@example.com,import-performer@example.com,,jira\n"
+                + "Third,Third,PROGRESS,HIGH,import-author@example.com,nobody@example.com,,jira\n"
+                + "Fourth,Fourth,COMPLETED,MIDDLE,import-author@example.com,import-performer@example.com,,jira\n";
+
+        TaskImportResultDto result = importTasks(csv, "csv");
+
+        assertEquals(4, result.getProcessed());
+        assertEquals(2, result.getImported());
+        assertEquals(2, result.getRejected());
+        assertTrue(result.isCompleted());
+        assertEquals(List.of(2L, 3L), result.getRejects().stream().map(reject -> reject.getRow()).toList());
+        assertTrue(result.getRejects().get(0).getErrors().get(0).startsWith("status"));
+        assertEquals(List.of("User nobody@example.com not found"), result.getRejects().get(1).getErrors());
+        assertEquals(before + 2, taskRepository.count());
+
+        Task quoted = taskRepository.findAll().stream()
+                .filter(task -> task.getHeader().startsWith("Quoted"))
+                .findFirst()
+                .orElseThrow();
+        assertEquals("Quoted, \"header\"", quoted.getHeader());
+        assertEquals("import-performer@example.com", userRepository.findById(quoted.getPerformer().getId())
+                .orElseThrow().getEmail());
+    }
+
+    @Test
+    @DisplayName("NDJSON import rejects a malformed line without failing the rest")
+    public void testImportNdjson() throws Exception {
+        String ndjson = row("One") + "{\"header\":\n" + row("Two");
+
+        TaskImportResultDto result = importTasks(ndjson, "ndjson");
+
+        assertEquals(3, result.getProcessed());
+        assertEquals(2, result.getImported());
+        assertEquals(2L, result.getRejects().get(0).getRow());
+        assertTrue(result.getRejects().get(0).getErrors().get(0).startsWith("Malformed JSON"));
+    }
+
+    @Test
+    @DisplayName("Interrupted import resumes after the last committed chunk")
+    public void testResumeImport() {
+        ReflectionTestUtils.setField(taskImportService, "chunkSize", 2);
+        StringBuilder ndjson = new StringBuilder();
+        for (int i = 0; i < 5; i++) {
+            ndjson.append(row("Resumed " + i));
+        }
+        byte[] body = ndjson.toString().getBytes(StandardCharsets.UTF_8);
+        long before = taskRepository.count();
+
+        assertThrows(DataValidationException.class, () -> taskImportService.importTasks(
+                failingAfter(body, body.length * 3 / 5 + 1), TaskFileFormat.NDJSON, "resume-test"));
+        assertEquals(before + 2, taskRepository.count());
+
+        TaskImportResultDto result = taskImportService.importTasks(
+                new ByteArrayInputStream(body), TaskFileFormat.NDJSON, "resume-test");
+
+        assertEquals(2, result.getResumedFrom());
+        assertEquals(3, result.getImported());
+        assertTrue(result.isCompleted());
+        assertEquals(before + 5, taskRepository.count());
+    }
+
+    @Test
+    @DisplayName("A second first request with the same import id reuses the checkpoint")
+    public void testStartImportTwice() {
+        LocalDateTime now = LocalDateTime.now();
+
+        assertEquals(1, taskImportRepository.insertIfAbsent("start-twice", now));
+        assertEquals(0, taskImportRepository.insertIfAbsent("start-twice", now.plusMinutes(1)));
+
+        TaskImportResultDto result = taskImportService.importTasks(
+                new ByteArrayInputStream(row("Started twice").getBytes(StandardCharsets.UTF_8)),
+                TaskFileFormat.NDJSON, "start-twice");
+
+        assertEquals(0, result.getResumedFrom());
+        assertEquals(1, result.getImported());
+    }
+
+    private TaskImportResultDto importTasks(String body, String format) throws Exception {
+        String response = mockMvc.perform(post("/import")
+                        .param("format", format)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        return objectMapper.readValue(response, TaskImportResultDto.class);
+    }
+
+    private String row(String header) {
+        return "{\"header\":\"" + header + "\",\"description\":\"Imported\",\"status\":\"PENDING\",\"priority\":\"LOW\","
+                + "\"authorEmail\":\"import-author@example.com\",\"performerEmail\":\"import-performer@example.com\"}\n";
+    }
+
+    private InputStream failingAfter(byte[] body, int bytes) {
+        return new FilterInputStream(new ByteArrayInputStream(body, 0, bytes)) {
+            @Override
+            public int read(byte[] buffer, int offset, int length) throws IOException {
+                int read = super.read(buffer, offset, length);
+                if (read == -1) {
+                    throw new IOException("Connection reset");
+                }
+                return read;
+            }
+        };
+    }
+}
@@ -0,0 +1,77 @@
+package com.ansysan.task_management_system.controller;
+
+import com.ansysan.task_management_system.entity.Comment;
+import com.ansysan.task_management_system.entity.Task;
+import com.ansysan.task_management_system.entity.User;
+import com.ansysan.task_management_system.repository.CommentRepository;
+import com.ansysan.task_management_system.repository.TaskRepository;
+import com.ansysan.task_management_system.repository.UserRepository;
+import com.ansysan.task_management_system.util.BaseTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.test.context.support.WithMockUser;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WithMockUser(roles = "ADMIN")
+public class TaskControllerPayloadTest extends BaseTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    private User author;
+    private Task task;
+
+    @BeforeEach
+    public void setUpTask() {
+        if (author == null) {
+            author = userRepository.save(user("payload-author@example.com"));
+        }
+        task = taskRepository.save(task(author));
+        commentRepository.save(Comment.builder().text("Comment").author(author.getEmail()).task(task).build());
+    }
+
+    @Test
+    @DisplayName("Task users are serialized as id, username and email summaries without comments")
+    public void testGetTask_LeanByDefault() throws Exception {
+        mockMvc.perform(get("/{id}", task.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.author.id").value(author.getId()))
+                .andExpect(jsonPath("$.author.username").value("payload-author@example.com"))
+                .andExpect(jsonPath("$.author.email").value("payload-author@example.com"))
+                .andExpect(jsonPath("$.author.password").doesNotExist())
+                .andExpect(jsonPath("$.author.role").doesNotExist())
+                .andExpect(jsonPath("$.performer.password").doesNotExist())
+                .andExpect(jsonPath("$.comments").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("expand=comments adds the task comments")
+    public void testGetTask_ExpandComments() throws Exception {
+        mockMvc.perform(get("/{id}", task.getId()).param("expand", "comments"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.author.password").doesNotExist())
+                .andExpect(jsonPath("$.comments.length()").value(1))
+                .andExpect(jsonPath("$.comments[0].text").value("Comment"));
+    }
+
+    @Test
+    @DisplayName("Task pages carry user summaries and no comments")
+    public void testGetAllTasks_Lean() throws Exception {
+        mockMvc.perform(get("/").param("offset", "0").param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].author.email").exists())
+                .andExpect(jsonPath("$.content[0].author.password").doesNotExist())
+                .andExpect(jsonPath("$.content[0].comments").doesNotExist());
+    }
+}
@@ -0,0 +1,134 @@
+package com.ansysan.task_management_system.controller;
+
+import com.ansysan.task_management_system.entity.Comment;
+import com.ansysan.task_management_system.entity.Task;
+import com.ansysan.task_management_system.entity.User;
+import com.ansysan.task_management_system.entity.enums.Priority;
+import com.ansysan.task_management_system.entity.enums.Status;
+import com.ansysan.task_management_system.repository.CommentRepository;
+import com.ansysan.task_management_system.repository.TaskRepository;
+import com.ansysan.task_management_system.repository.UserRepository;
+import com.ansysan.task_management_system.util.BaseTest;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WithMockUser(roles = "ADMIN")
+public class TaskControllerStatementCountTest extends BaseTest {
+    private static final int TASKS = 30;
+    private static final int PAGE_SIZE = 20;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private User author;
+    private User performer;
+    private Task firstTask;
+
+    @BeforeAll
+    public void setUpData() {
+        author = userRepository.save(user("author@example.com"));
+        performer = userRepository.save(user("performer@example.com"));
+
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < TASKS; i++) {
+            tasks.add(Task.builder()
+                    .header("Task " + i)
+                    .description("Description " + i)
+                    .status(Status.PENDING)
+                    .priority(Priority.MIDDLE)
+                    .createdDate(LocalDateTime.now().minusDays(i))
+                    .updatedDate(LocalDateTime.now())
+                    .author(author)
+                    .performer(performer)
+                    .build());
+        }
+        tasks = taskRepository.saveAll(tasks);
+        firstTask = tasks.get(0);
+
+        List<Comment> comments = new ArrayList<>();
+        for (Task task : tasks) {
+            comments.add(Comment.builder().text("First comment").author(author.getEmail()).task(task).build());
+            comments.add(Comment.builder().text("Second comment").author(author.getEmail()).task(task).build());
+        }
+        commentRepository.saveAll(comments);
+    }
+
+    @BeforeEach
+    public void clearTaskCache() {
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+    }
+
+    @Test
+    @DisplayName("Task page: page query and count query, comments are not loaded")
+    public void getAllTasks() throws Exception {
+        assertStatementCount(2, get("/").param("offset", "0").param("limit", String.valueOf(PAGE_SIZE)));
+    }
+
+    @Test
+    @DisplayName("Task slice by cursor: one slice query")
+    public void getAllTasksByCursor() throws Exception {
+        assertStatementCount(1, get("/").param("cursor", "").param("limit", String.valueOf(PAGE_SIZE)));
+    }
+
+    @Test
+    @DisplayName("Author page: page query and count query")
+    public void getTasksByAuthorId() throws Exception {
+        assertStatementCount(2, get("/author/{id}", author.getId())
+                .param("offset", "0").param("limit", String.valueOf(PAGE_SIZE)));
+    }
+
+    @Test
+    @DisplayName("Performer page: page query and count query")
+    public void getTasksByPerformerId() throws Exception {
+        assertStatementCount(2, get("/performer/{id}", performer.getId())
+                .param("offset", "0").param("limit", String.valueOf(PAGE_SIZE)));
+    }
+
+    @Test
+    @DisplayName("Single task: one joined query for users")
+    public void getTaskById() throws Exception {
+        assertStatementCount(1, get("/{id}", firstTask.getId()));
+    }
+
+    @Test
+    @DisplayName("Single task with comments: one joined query for users and comments")
+    public void getTaskByIdWithComments() throws Exception {
+        assertStatementCount(1, get("/{id}", firstTask.getId()).param("expand", "comments"));
+    }
+
+    private void assertStatementCount(long expected, RequestBuilder request) throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        mockMvc.perform(request).andExpect(status().isOk());
+        assertEquals(expected, statistics.getPrepareStatementCount());
+    }
+}
@@ -0,0 +1,103 @@
+package com.ansysan.task_management_system.controller;
+
+import com.ansysan.task_management_system.dto.TaskBulkUpdateDto;
+import com.ansysan.task_management_system.dto.TaskCreateDto;
+import com.ansysan.task_management_system.dto.TaskStatsDto;
+import com.ansysan.task_management_system.dto.UserReadDto;
+import com.ansysan.task_management_system.entity.User;
+import com.ansysan.task_management_system.repository.UserRepository;
+import com.ansysan.task_management_system.service.TaskBulkService;
+import com.ansysan.task_management_system.service.TaskService;
+import com.ansysan.task_management_system.service.TaskStatsService;
+import com.ansysan.task_management_system.util.BaseTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.context.support.WithMockUser;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WithMockUser(roles = "ADMIN")
+public class TaskStatsControllerTest extends BaseTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskBulkService taskBulkService;
+
+    @Autowired
+    private TaskStatsService taskStatsService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Counters maintained by every write path match a full rebuild")
+    public void testCountersMatchRebuild() throws Exception {
+        User author = userRepository.save(user("stats-author@example.com"));
+        User performer = userRepository.save(user("stats-performer@example.com"));
+
+        List<TaskCreateDto> createDtos = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            createDtos.add(TaskCreateDto.builder()
+                    .header("Task " + i)
+                    .description("Description " + i)
+                    .status(i % 2 == 0 ? "PENDING" : "PROGRESS")
+                    .priority(i % 3 == 0 ? "HIGH" : "LOW")
+                    .performerId(UserReadDto.builder().id(performer.getId()).build())
+                    .build());
+        }
+        List<Long> ids = taskBulkService.createTasks(createDtos, author.getEmail()).getItems().stream()
+                .map(item -> item.getId())
+                .toList();
+
+        taskBulkService.updateTasks(TaskBulkUpdateDto.builder()
+                .performerId(performer.getId())
+                .status("PROGRESS")
+                .targetStatus("COMPLETED")
+                .build());
+        taskBulkService.updateTasks(TaskBulkUpdateDto.builder()
+                .ids(ids.subList(0, 3))
+                .targetPerformerId(author.getId())
+                .build());
+        taskService.deleteTask(ids.get(11));
+
+        TaskStatsDto authorStats = taskStatsService.getStats(author.getId());
+        TaskStatsDto performerStats = taskStatsService.getStats(performer.getId());
+        assertEquals(8, performerStats.getTotal());
+        assertEquals(Map.of("COMPLETED", 4L, "PENDING", 4L), performerStats.getByStatus());
+
+        taskStatsService.rebuild();
+
+        assertEquals(authorStats, taskStatsService.getStats(author.getId()));
+        assertEquals(performerStats, taskStatsService.getStats(performer.getId()));
+        mockMvc.perform(get("/stats/performer/{id}", author.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(3));
+    }
+
+    @Test
+    @DisplayName("Rebuild corrects drifted counters")
+    public void testRebuildCorrectsDrift() {
+        long performerId = Long.MAX_VALUE;
+        jdbcTemplate.update("INSERT INTO task_stats (performer_id, status, priority, slot, task_count) " +
+                "VALUES (?, 'PENDING', 'LOW', 3, 5)", performerId);
+        assertEquals(5, taskStatsService.getStats(performerId).getTotal());
+
+        taskStatsService.rebuild();
+
+        assertEquals(0, taskStatsService.getStats(performerId).getTotal());
+    }
+}
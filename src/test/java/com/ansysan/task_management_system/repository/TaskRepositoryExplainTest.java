@@ -0,0 +1,214 @@
+package com.ansysan.task_management_system.repository;
+
+import com.ansysan.task_management_system.config.SqlStatementCounter;
+import com.ansysan.task_management_system.dto.TaskFilterDto;
+import com.ansysan.task_management_system.entity.User;
+import com.ansysan.task_management_system.util.BaseTest;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that the statements {@link TaskSpecifications} actually produce can be served by the indexes
+ * from the filter changeset. Each statement is captured from {@link TaskRepository#findAll}, prepared
+ * as is and explained with its bound values against an analyzed table, with the planner left free
+ * to pick a sequential scan.
+ */
+public class TaskRepositoryExplainTest extends BaseTest {
+    private static final int USERS = 100;
+    private static final int TASKS = 20_000;
+    private static final int PAGE_SIZE = 20;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private List<Long> userIds;
+    private long performerId;
+    private long authorId;
+
+    /**
+     * Most tasks are COMPLETED, like in a long-running project, so open statuses are selective.
+     * Tasks are spread over many authors and performers so a single user is selective as well.
+     */
+    @BeforeAll
+    public void setUpData() {
+        List<User> users = IntStream.range(0, USERS)
+                .mapToObj(i -> user("explain-" + i + "@example.com"))
+                .toList();
+        userIds = userRepository.saveAll(users).stream().map(User::getId).toList();
+        authorId = userIds.get(0);
+        performerId = userIds.get(1);
+
+        String ids = userIds.stream().map(String::valueOf).collect(Collectors.joining(","));
+        jdbcTemplate.update("INSERT INTO task (id, header, description, status, priority, created_date, updated_date, author_id, performer_id) " +
+                "SELECT nextval('task_id_seq'), 'Task ' || i, 'Description ' || i, " +
+                "CASE i % 20 WHEN 0 THEN 'PENDING' WHEN 1 THEN 'PROGRESS' ELSE 'COMPLETED' END, " +
+                "(ARRAY['LOW', 'MIDDLE', 'HIGH'])[i % 3 + 1], " +
+                "now() - i * interval '1 hour', now() - i * interval '1 minute', " +
+                "(ARRAY[" + ids + "])[i % " + USERS + " + 1], (ARRAY[" + ids + "])[(i / " + USERS + ") % " + USERS + " + 1] " +
+                "FROM generate_series(1, ?) AS i", TASKS);
+        jdbcTemplate.execute("ANALYZE task");
+    }
+
+    @AfterAll
+    public void tearDownData() {
+        String ids = userIds.stream().map(String::valueOf).collect(Collectors.joining(","));
+        jdbcTemplate.update("DELETE FROM task WHERE author_id IN (" + ids + ") OR performer_id IN (" + ids + ")");
+        jdbcTemplate.update("DELETE FROM \"user\" WHERE id IN (" + ids + ")");
+    }
+
+    @Test
+    @DisplayName("Open tasks of a performer use the partial index")
+    public void testOpenTasksOfPerformer() {
+        TaskFilterDto filter = TaskFilterDto.builder().performerId(performerId).open(true).build();
+
+        assertUsesIndex("idx_task_performer_open_created_date_id", filter, "createdDate", false, performerId);
+    }
+
+    @Test
+    @DisplayName("Open tasks of a performer use the partial index under a generic plan")
+    public void testOpenTasksOfPerformerGenericPlan() {
+        TaskFilterDto filter = TaskFilterDto.builder().performerId(performerId).open(true).build();
+
+        assertUsesIndex("idx_task_performer_open_created_date_id", filter, "createdDate", true, performerId);
+    }
+
+    @Test
+    @DisplayName("Status filter uses the status index")
+    public void testStatus() {
+        TaskFilterDto filter = TaskFilterDto.builder().status("PROGRESS").build();
+
+        assertUsesIndex("idx_task_status_created_date_id", filter, "createdDate", false, "PROGRESS");
+    }
+
+    @Test
+    @DisplayName("Performer, status and priority filter uses the composite index")
+    public void testPerformerStatusPriority() {
+        TaskFilterDto filter = TaskFilterDto.builder()
+                .performerId(performerId)
+                .status("COMPLETED")
+                .priority("HIGH")
+                .build();
+
+        assertUsesIndex("idx_task_performer_status_priority", filter, "createdDate", false,
+                "COMPLETED", "HIGH", performerId);
+    }
+
+    @Test
+    @DisplayName("Updated date range uses the updated date index")
+    public void testUpdatedDateRange() {
+        LocalDateTime from = LocalDateTime.now().minusDays(1);
+        TaskFilterDto filter = TaskFilterDto.builder().updatedFrom(from).build();
+
+        assertUsesIndex("idx_task_updated_date_id", filter, "updatedDate", false, from);
+    }
+
+    @Test
+    @DisplayName("Author with created date range uses the author index")
+    public void testAuthorCreatedDateRange() {
+        LocalDateTime to = LocalDateTime.now();
+        LocalDateTime from = to.minusDays(30);
+        TaskFilterDto filter = TaskFilterDto.builder().authorId(authorId).createdFrom(from).createdTo(to).build();
+
+        assertUsesIndex("idx_task_author_created_date_id", filter, "createdDate", false, authorId, from, to);
+    }
+
+    /**
+     * Runs the filter through the repository exactly as the filter endpoint does and explains the
+     * captured page query. {@code values} are the filter's bound values in predicate order; the
+     * trailing offset and limit placeholders are filled from the page request.
+     */
+    private void assertUsesIndex(String index, TaskFilterDto filter, String sort, boolean genericPlan, Object... values) {
+        Pageable pageable = PageRequest.of(0, PAGE_SIZE, Sort.by(Sort.Direction.DESC, sort, "id"));
+        String sql;
+        try (SqlStatementCounter.Scope scope = SqlStatementCounter.start()) {
+            taskRepository.findAll(TaskSpecifications.of(filter), pageable);
+            sql = scope.shapes().keySet().stream()
+                    .filter(shape -> shape.startsWith("select") && shape.contains(" order by "))
+                    .findFirst()
+                    .orElseThrow(() -> new AssertionError("No page query among " + scope.shapes()));
+        }
+
+        List<Object> params = new ArrayList<>(List.of(values));
+        int paging = placeholders(sql) - params.size();
+        if (paging == 2) {
+            params.add(pageable.getOffset());
+        }
+        params.add(pageable.getPageSize());
+        assertEquals(placeholders(sql), params.size(), sql);
+
+        String plan = explain(sql, params, genericPlan);
+        assertFalse(plan.contains("Seq Scan on task"), plan);
+        assertTrue(plan.contains(index), plan);
+    }
+
+    private String explain(String sql, List<Object> params, boolean genericPlan) {
+        return transactionTemplate.execute(status -> {
+            if (genericPlan) {
+                jdbcTemplate.execute("SET LOCAL plan_cache_mode = force_generic_plan");
+            }
+            jdbcTemplate.execute("PREPARE filter_query AS " + numbered(sql));
+            try {
+                String arguments = params.stream().map(this::literal).collect(Collectors.joining(", "));
+                List<String> lines = jdbcTemplate.queryForList("EXPLAIN EXECUTE filter_query(" + arguments + ")", String.class);
+                return String.join("\n", lines);
+            } finally {
+                jdbcTemplate.execute("DEALLOCATE filter_query");
+            }
+        });
+    }
+
+    private int placeholders(String sql) {
+        return (int) sql.chars().filter(c -> c == '?').count();
+    }
+
+    private String numbered(String sql) {
+        StringBuilder numbered = new StringBuilder();
+        int parameter = 0;
+        for (char c : sql.toCharArray()) {
+            if (c == '?') {
+                numbered.append('$').append(++parameter);
+            } else {
+                numbered.append(c);
+            }
+        }
+        return numbered.toString();
+    }
+
+    private String literal(Object value) {
+        if (value instanceof Number) {
+            return value.toString();
+        }
+        if (value instanceof LocalDateTime dateTime) {
+            return "'" + Timestamp.valueOf(dateTime) + "'";
+        }
+        return "'" + value + "'";
+    }
+}
@@ -0,0 +1,108 @@
+package com.ansysan.task_management_system.service;
+
+import com.ansysan.task_management_system.entity.Task;
+import com.ansysan.task_management_system.entity.enums.Priority;
+import com.ansysan.task_management_system.entity.enums.Status;
+import com.ansysan.task_management_system.repository.TaskRepository;
+import com.ansysan.task_management_system.repository.UserRepository;
+import com.ansysan.task_management_system.service.DatasetGenerator.DatasetSpec;
+import com.ansysan.task_management_system.util.BaseTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DatasetGeneratorTest extends BaseTest {
+    private static final int USERS = 100;
+    private static final int TASKS = 2000;
+    private static final int COMMENTS = 3000;
+    private static final String PERFORMER_COUNTS = "SELECT count(*) FROM task t JOIN \"user\" u ON u.id = t.performer_id " +
+            "WHERE u.id >= ? GROUP BY t.performer_id ORDER BY count(*) DESC";
+
+    @Autowired
+    private DatasetGenerator datasetGenerator;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private long firstUserId;
+    private long firstTaskId;
+    private long firstCommentId;
+
+    @BeforeEach
+    public void rememberIds() {
+        firstUserId = max("\"user\"") + 1;
+        firstTaskId = max("task") + 1;
+        firstCommentId = max("comment") + 1;
+    }
+
+    /**
+     * The container database is shared by all test classes, so the generated rows and their
+     * counters are removed again.
+     */
+    @AfterEach
+    public void removeGeneratedRows() {
+        long lastUserId = firstUserId + USERS - 1;
+        jdbcTemplate.update("DELETE FROM comment WHERE id >= ? OR task_id >= ?", firstCommentId, firstTaskId);
+        jdbcTemplate.update("DELETE FROM task WHERE id >= ? OR author_id BETWEEN ? AND ? OR performer_id BETWEEN ? AND ?",
+                firstTaskId, firstUserId, lastUserId, firstUserId, lastUserId);
+        jdbcTemplate.update("DELETE FROM task_stats WHERE performer_id BETWEEN ? AND ?", firstUserId, lastUserId);
+        jdbcTemplate.update("DELETE FROM \"user\" WHERE id BETWEEN ? AND ?", firstUserId, lastUserId);
+    }
+
+    @Test
+    @DisplayName("Generator loads the requested volumes with skewed performers and usable sequences")
+    public void testGenerate() {
+        datasetGenerator.generate(new DatasetSpec(11, USERS, TASKS, COMMENTS, 1.1, 1.2, 30,
+                LocalDateTime.of(2026, 1, 1, 0, 0), 700));
+
+        assertEquals(USERS, count("\"user\" WHERE id >= " + firstUserId));
+        assertEquals(TASKS, count("task WHERE id >= " + firstTaskId));
+        assertEquals(COMMENTS, count("comment WHERE id >= " + firstCommentId));
+        assertEquals(0, count("comment WHERE id >= " + firstCommentId
+                + " AND (task_id < " + firstTaskId + " OR task_id >= " + (firstTaskId + TASKS) + ")"));
+
+        List<Long> performerCounts = jdbcTemplate.queryForList(PERFORMER_COUNTS, Long.class, firstUserId);
+        assertTrue(performerCounts.get(0) > 10 * performerCounts.get(performerCounts.size() / 2),
+                "hottest performer " + performerCounts.get(0) + ", median " + performerCounts.get(performerCounts.size() / 2));
+
+        Long statsTotal = jdbcTemplate.queryForObject("SELECT sum(task_count) FROM task_stats WHERE performer_id >= ?",
+                Long.class, firstUserId);
+        assertEquals(TASKS, statsTotal);
+
+        Task saved = taskRepository.save(Task.builder()
+                .header("After generation")
+                .description("Description")
+                .status(Status.PENDING)
+                .priority(Priority.LOW)
+                .createdDate(LocalDateTime.now())
+                .updatedDate(LocalDateTime.now())
+                .author(userRepository.findById(firstUserId).orElseThrow())
+                .performer(userRepository.findById(firstUserId).orElseThrow())
+                .build());
+        assertTrue(saved.getId() >= firstTaskId + TASKS);
+    }
+
+    private long max(String table) {
+        Long max = jdbcTemplate.queryForObject("SELECT max(id) FROM " + table, Long.class);
+        return max == null ? 0 : max;
+    }
+
+    private long count(String from) {
+        return jdbcTemplate.queryForObject("SELECT count(*) FROM " + from, Long.class);
+    }
+}
@@ -0,0 +1,71 @@
+package com.ansysan.task_management_system.service;
+
+import com.ansysan.task_management_system.config.JwtConfig;
+import com.ansysan.task_management_system.entity.enums.Role;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.security.WeakKeyException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JwtServiceTest {
+    private static final String SECRET = "NPqp7C5ElqPPgq8OskgNPXP1wr+SyqHlXMd60VfDeaY=";
+
+    private JwtConfig jwtConfig;
+    private JwtService jwtService;
+
+    @BeforeEach
+    public void setUp() {
+        jwtConfig = new JwtConfig();
+        jwtConfig.setSecret(SECRET);
+        jwtConfig.setExpiration(60);
+        jwtService = new JwtService(jwtConfig);
+    }
+
+    @Test
+    public void testParseToken_ReturnsSubjectAndAuthorities() {
+        String token = jwtService.generateToken(UsernamePasswordAuthenticationToken.authenticated(
+                "admin@example.com", null, List.of(Role.ADMIN)));
+
+        Optional<Claims> claims = jwtService.parseToken(token);
+
+        assertTrue(claims.isPresent());
+        assertEquals("admin@example.com", claims.get().getSubject());
+        assertEquals(List.of(new SimpleGrantedAuthority("ROLE_ADMIN")), jwtService.extractAuthorities(claims.get()));
+        assertEquals("admin@example.com", jwtService.extractUserName(token));
+    }
+
+    @Test
+    public void testParseToken_RejectsTamperedAndExpiredTokens() {
+        String token = jwtService.generateToken(UsernamePasswordAuthenticationToken.authenticated(
+                "admin@example.com", null, List.of(Role.ADMIN)));
+        jwtConfig.setExpiration(-60);
+        String expired = jwtService.generateToken(UsernamePasswordAuthenticationToken.authenticated(
+                "admin@example.com", null, List.of(Role.ADMIN)));
+
+        assertTrue(jwtService.parseToken(token.substring(0, token.length() - 2) + "xx").isEmpty());
+        assertTrue(jwtService.parseToken(expired).isEmpty());
+        assertTrue(jwtService.parseToken("not-a-token").isEmpty());
+        assertFalse(jwtService.validateToken(""));
+    }
+
+    @Test
+    public void testConstructor_RejectsShortSecret() {
+        jwtConfig.setSecret("JwtSecretKey");
+
+        assertThrows(WeakKeyException.class, () -> new JwtService(jwtConfig));
+    }
+
+    @Test
+    public void testConstructor_RejectsMissingSecret() {
+        jwtConfig.setSecret("");
+
+        assertThrows(IllegalStateException.class, () -> new JwtService(jwtConfig));
+    }
+}
@@ -0,0 +1,83 @@
+package com.ansysan.task_management_system.service;
+
+import com.ansysan.task_management_system.config.JwtConfig;
+import com.ansysan.task_management_system.entity.enums.Role;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class JwtTokenCacheTest {
+
+    private JwtService jwtService;
+    private JwtTokenCache jwtTokenCache;
+
+    @BeforeEach
+    public void setUp() {
+        JwtConfig jwtConfig = new JwtConfig();
+        jwtConfig.setSecret("NPqp7C5ElqPPgq8OskgNPXP1wr+SyqHlXMd60VfDeaY=");
+        jwtConfig.setExpiration(60);
+        jwtService = spy(new JwtService(jwtConfig));
+        jwtTokenCache = new JwtTokenCache(jwtService, 100, Duration.ofMinutes(15));
+    }
+
+    @Test
+    public void testVerify_ParsesRepeatedTokenOnce() {
+        String token = token("admin@example.com");
+
+        JwtTokenCache.VerifiedToken first = jwtTokenCache.verify(token).orElseThrow();
+        JwtTokenCache.VerifiedToken second = jwtTokenCache.verify(token).orElseThrow();
+
+        assertSame(first, second);
+        assertEquals("admin@example.com", first.subject());
+        assertEquals("ROLE_ADMIN", first.authorities().get(0).getAuthority());
+        verify(jwtService, times(1)).parseToken(token);
+    }
+
+    @Test
+    public void testVerify_DoesNotCacheInvalidTokens() {
+        String token = token("admin@example.com");
+        String tampered = token.substring(0, token.length() - 2) + "xx";
+
+        assertTrue(jwtTokenCache.verify(tampered).isEmpty());
+        assertTrue(jwtTokenCache.verify(tampered).isEmpty());
+
+        assertEquals(0, jwtTokenCache.size());
+        verify(jwtService, times(2)).parseToken(tampered);
+    }
+
+    @Test
+    public void testEvictSubject_RemovesOnlyThatSubject() {
+        String admin = token("admin@example.com");
+        String other = token("other@example.com");
+        jwtTokenCache.verify(admin);
+        jwtTokenCache.verify(other);
+
+        jwtTokenCache.evictSubject("admin@example.com");
+        jwtTokenCache.verify(admin);
+        jwtTokenCache.verify(other);
+
+        verify(jwtService, times(2)).parseToken(admin);
+        verify(jwtService, times(1)).parseToken(other);
+    }
+
+    @Test
+    public void testEvict_RemovesToken() {
+        String token = token("admin@example.com");
+        jwtTokenCache.verify(token);
+
+        jwtTokenCache.evict(token);
+
+        assertEquals(0, jwtTokenCache.size());
+    }
+
+    private String token(String subject) {
+        return jwtService.generateToken(UsernamePasswordAuthenticationToken.authenticated(
+                subject, null, List.of(Role.ADMIN)));
+    }
+}
@@ -0,0 +1,86 @@
+package com.ansysan.task_management_system.service;
+
+import com.ansysan.task_management_system.config.RateLimitProperties;
+import com.ansysan.task_management_system.config.RateLimitProperties.Limit;
+import com.ansysan.task_management_system.service.RateLimiter.Decision;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class RateLimiterTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    private RateLimiter rateLimiter;
+
+    private final Limit limit = new Limit(100, 10);
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.openMocks(this);
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setLeaseSize(10);
+        rateLimiter = new RateLimiter(redisTemplate, properties);
+    }
+
+    @Test
+    public void testTryAcquire_SpendsLeaseLocally() {
+        when(redisTemplate.execute(ArgumentMatchers.<RedisScript<List<Long>>>any(), anyList(), anyString(), anyString(), anyString(), anyString()))
+                .thenReturn(List.of(10L, 90L));
+
+        for (int i = 0; i < 10; i++) {
+            assertTrue(rateLimiter.tryAcquire("user:a:GET /", limit, 1).allowed());
+        }
+
+        verify(redisTemplate, times(1))
+                .execute(ArgumentMatchers.<RedisScript<List<Long>>>any(), anyList(), eq("100"), anyString(), eq("10"), eq("1"));
+    }
+
+    @Test
+    public void testTryAcquire_RejectsWhenBucketIsEmpty() {
+        when(redisTemplate.execute(ArgumentMatchers.<RedisScript<List<Long>>>any(), anyList(), anyString(), anyString(), anyString(), anyString()))
+                .thenReturn(List.of(0L, 3L));
+
+        Decision decision = rateLimiter.tryAcquire("user:a:GET /", limit, 5);
+
+        assertFalse(decision.allowed());
+        assertEquals(100, decision.limit());
+        assertEquals(3, decision.remaining());
+        assertEquals(1, decision.retryAfterSeconds());
+    }
+
+    @Test
+    public void testTryAcquire_CostAboveCapacityIsRejected() {
+        when(redisTemplate.execute(ArgumentMatchers.<RedisScript<List<Long>>>any(), anyList(), anyString(), anyString(), anyString(), anyString()))
+                .thenReturn(List.of(0L, 100L));
+
+        Decision decision = rateLimiter.tryAcquire("user:a:GET /", limit, 1000);
+
+        assertFalse(decision.allowed());
+        assertTrue(decision.retryAfterSeconds() >= 1);
+        verify(redisTemplate).execute(ArgumentMatchers.<RedisScript<List<Long>>>any(), anyList(), anyString(), anyString(), eq("1000"), eq("1000"));
+    }
+
+    @Test
+    public void testTryAcquire_AllowsWhenRedisIsDown() {
+        when(redisTemplate.execute(ArgumentMatchers.<RedisScript<List<Long>>>any(), anyList(), anyString(), anyString(), anyString(), anyString()))
+                .thenThrow(new RedisConnectionFailureException("down"));
+
+        assertTrue(rateLimiter.tryAcquire("user:a:GET /", limit, 1).allowed());
+    }
+}
@@ -0,0 +1,200 @@
+package com.ansysan.task_management_system.service;
+
+import com.ansysan.task_management_system.dto.TaskBulkCreateResultDto;
+import com.ansysan.task_management_system.dto.TaskBulkUpdateDto;
+import com.ansysan.task_management_system.dto.TaskCreateDto;
+import com.ansysan.task_management_system.dto.UserReadDto;
+import com.ansysan.task_management_system.entity.Task;
+import com.ansysan.task_management_system.entity.User;
+import com.ansysan.task_management_system.exception.DataValidationException;
+import com.ansysan.task_management_system.mapper.TaskMapper;
+import com.ansysan.task_management_system.repository.TaskRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+public class TaskBulkServiceTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private TaskMapper taskMapper;
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private TaskStatsService taskStatsService;
+
+    private TaskBulkService taskBulkService;
+
+    private User author;
+    private User performer;
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.openMocks(this);
+        Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+        taskBulkService = new TaskBulkService(taskRepository, taskMapper, userService, validator,
+                new ObjectMapper(), entityManager, transactionTemplate, cacheManager,
+                taskStatsService);
+        ReflectionTestUtils.setField(taskBulkService, "maxSize", 5);
+        ReflectionTestUtils.setField(taskBulkService, "batchSize", 2);
+
+        author = User.builder().id(1L).email("author@example.com").build();
+        performer = User.builder().id(2L).email("performer@example.com").build();
+
+        when(userService.findByEmail("author@example.com")).thenReturn(author);
+        when(userService.findAllByIds(Set.of(2L))).thenReturn(Map.of(2L, performer));
+        when(taskMapper.toEntity(any(TaskCreateDto.class))).thenAnswer(invocation -> new Task());
+        when(taskRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Task> tasks = new ArrayList<>(invocation.getArgument(0));
+            tasks.forEach(task -> task.setId(100L + task.hashCode() % 10));
+            return tasks;
+        });
+    }
+
+    @Test
+    public void testCreateTasks_SavesValidItemsInBatches() {
+        List<TaskCreateDto> createDtos = List.of(task(2L), task(2L), task(2L));
+
+        TaskBulkCreateResultDto result = taskBulkService.createTasks(createDtos, "author@example.com");
+
+        assertEquals(3, result.getCreated());
+        assertEquals(0, result.getRejected());
+        assertTrue(result.getItems().stream().allMatch(item -> item.getId() != null));
+        verify(userService, times(1)).findAllByIds(Set.of(2L));
+        verify(taskRepository, times(2)).saveAll(anyList());
+        verify(entityManager, times(2)).clear();
+        verify(taskStatsService, times(2)).apply(any(TaskStatsDeltas.class));
+    }
+
+    @Test
+    public void testCreateTasks_RejectsInvalidItemsAndUnknownPerformers() {
+        TaskCreateDto invalid = task(2L);
+        invalid.setStatus("DONE");
+        when(userService.findAllByIds(Set.of(2L, 3L))).thenReturn(Map.of(2L, performer));
+
+        TaskBulkCreateResultDto result = taskBulkService.createTasks(
+                List.of(task(2L), invalid, task(3L)), "author@example.com");
+
+        assertEquals(1, result.getCreated());
+        assertEquals(2, result.getRejected());
+        assertFalse(result.getItems().get(1).isCreated());
+        assertTrue(result.getItems().get(1).getErrors().get(0).startsWith("status"));
+        assertEquals(List.of("Performer 3 not found"), result.getItems().get(2).getErrors());
+    }
+
+    @Test
+    public void testCreateTasks_RejectsMalformedNdjsonLine() {
+        String ndjson = """
+                {"header":"h","description":"d","status":"PENDING","priority":"LOW","performerId":{"id":2}}
+                {"header":
+                """;
+
+        TaskBulkCreateResultDto result = taskBulkService.createTasks(
+                new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)), "author@example.com");
+
+        assertEquals(1, result.getCreated());
+        assertEquals(1, result.getRejected());
+        assertTrue(result.getItems().get(1).getErrors().get(0).startsWith("Malformed JSON"));
+    }
+
+    @Test
+    public void testCreateTasks_TooManyItems() {
+        List<TaskCreateDto> createDtos = List.of(task(2L), task(2L), task(2L), task(2L), task(2L), task(2L));
+
+        assertThrows(DataValidationException.class,
+                () -> taskBulkService.createTasks(createDtos, "author@example.com"));
+        verify(taskRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    public void testUpdateTasks_RequiresSelection() {
+        TaskBulkUpdateDto updateDto = TaskBulkUpdateDto.builder().targetStatus("COMPLETED").build();
+
+        assertThrows(DataValidationException.class, () -> taskBulkService.updateTasks(updateDto));
+        verify(transactionTemplate, never()).execute(any());
+    }
+
+    @Test
+    public void testUpdateTasks_RequiresTarget() {
+        TaskBulkUpdateDto updateDto = TaskBulkUpdateDto.builder().status("PROGRESS").build();
+
+        assertThrows(DataValidationException.class, () -> taskBulkService.updateTasks(updateDto));
+        verify(transactionTemplate, never()).execute(any());
+    }
+
+    @Test
+    public void testUpdateTasks_ChunksIdList() {
+        ReflectionTestUtils.setField(taskBulkService, "updateChunkSize", 2);
+        when(transactionTemplate.execute(any())).thenReturn(List.of(1L, 2L), List.of(3L, 4L), List.of(5L));
+        TaskBulkUpdateDto updateDto = TaskBulkUpdateDto.builder()
+                .ids(List.of(3L, 1L, 2L, 3L, 4L, 5L))
+                .targetStatus("COMPLETED")
+                .build();
+
+        var result = taskBulkService.updateTasks(updateDto);
+
+        assertEquals(5, result.getAffected());
+        assertEquals(3, result.getChunks());
+        verify(transactionTemplate, times(3)).execute(any());
+        verify(cacheManager).getCache("tasks");
+    }
+
+    @Test
+    public void testUpdateTasks_FilterWalksKeyset() {
+        ReflectionTestUtils.setField(taskBulkService, "updateChunkSize", 2);
+        when(transactionTemplate.execute(any())).thenReturn(List.of(1L, 50_000_000L), List.of());
+        TaskBulkUpdateDto updateDto = TaskBulkUpdateDto.builder()
+                .status("PROGRESS")
+                .targetStatus("COMPLETED")
+                .build();
+
+        var result = taskBulkService.updateTasks(updateDto);
+
+        assertEquals(2, result.getAffected());
+        assertEquals(1, result.getChunks());
+        verify(transactionTemplate, times(2)).execute(any());
+    }
+
+    private TaskCreateDto task(Long performerId) {
+        return TaskCreateDto.builder()
+                .header("Header")
+                .description("Description")
+                .status("PENDING")
+                .priority("LOW")
+                .performerId(UserReadDto.builder().id(performerId).build())
+                .build();
+    }
+}
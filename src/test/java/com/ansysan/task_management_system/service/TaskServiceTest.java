@@ -3,7 +3,10 @@ package com.ansysan.task_management_system.service;
 import static org.mockito.Mockito.*;
 import static org.junit.jupiter.api.Assertions.*;
 
+import com.ansysan.task_management_system.dto.CursorPageDto;
+import com.ansysan.task_management_system.dto.PageCursor;
 import com.ansysan.task_management_system.dto.TaskCreateDto;
+import com.ansysan.task_management_system.dto.TaskFilterDto;
 import com.ansysan.task_management_system.dto.TaskReadDto;
 import com.ansysan.task_management_system.dto.UserCreateDto;
 import com.ansysan.task_management_system.dto.UserReadDto;
@@ -11,19 +14,28 @@ import com.ansysan.task_management_system.entity.Task;
 import com.ansysan.task_management_system.entity.User;
 import com.ansysan.task_management_system.entity.enums.Priority;
 import com.ansysan.task_management_system.entity.enums.Status;
+import com.ansysan.task_management_system.exception.DataValidationException;
+import com.ansysan.task_management_system.exception.PreconditionFailedException;
 import com.ansysan.task_management_system.exception.TaskException;
 import com.ansysan.task_management_system.exception.UsernameNotFoundException;
 import com.ansysan.task_management_system.mapper.TaskMapper;
 import com.ansysan.task_management_system.repository.TaskRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 import java.util.List;
 
@@ -41,6 +53,9 @@ public class TaskServiceTest {
     @Mock
     private UserService userService;
 
+    @Mock
+    private TaskStatsService taskStatsService;
+
     private Task task;
     private TaskCreateDto createDto;
     private TaskReadDto readDto;
@@ -75,7 +90,7 @@ public class TaskServiceTest {
         readDto.setDescription(createDto.getDescription());
         readDto.setStatus(String.valueOf(Status.PROGRESS));
         readDto.setPriority(String.valueOf(Priority.HIGH));
-        readDto.setPerformer(user);
+        readDto.setPerformer(UserReadDto.builder().id(1L).username("Test User").build());
     }
 
 
@@ -93,6 +108,31 @@ public class TaskServiceTest {
         verify(taskRepository).save(task);
     }
 
+    @Test
+    public void testGetTask_DoesNotLoadComments() {
+        when(taskRepository.findWithUsersById(1L)).thenReturn(Optional.of(task));
+        when(taskMapper.toDto(task)).thenReturn(readDto);
+
+        assertEquals(readDto, taskService.getTask(1L));
+        verify(taskRepository, never()).findWithCommentsById(anyLong());
+        verify(taskMapper, never()).toDtoWithComments(any());
+    }
+
+    @Test
+    public void testGetTaskWithComments_Success() {
+        when(taskRepository.findWithCommentsById(1L)).thenReturn(Optional.of(task));
+        when(taskMapper.toDtoWithComments(task)).thenReturn(readDto);
+
+        assertEquals(readDto, taskService.getTaskWithComments(1L));
+    }
+
+    @Test
+    public void testGetTaskWithComments_NotFound() {
+        when(taskRepository.findWithCommentsById(1L)).thenReturn(Optional.empty());
+
+        assertThrows(TaskException.class, () -> taskService.getTaskWithComments(1L));
+    }
+
     @Test
     public void testUpdateTask_Success() {
         when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
@@ -113,6 +153,17 @@ public class TaskServiceTest {
         verify(taskRepository).save(task);
     }
 
+    @Test
+    public void testUpdateTask_VersionMismatch() {
+        task.setVersion(3L);
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
+
+        assertThrows(PreconditionFailedException.class, () -> taskService.updateTask(1L, createDto, 2L));
+
+        verify(taskRepository, never()).save(any(Task.class));
+        verify(taskStatsService, never()).apply(any(TaskStatsDeltas.class));
+    }
+
     @Test
     public void testDeleteTask_Success() {
         when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
@@ -122,6 +173,7 @@ public class TaskServiceTest {
 
         assertEquals(readDto, result);
         verify(taskRepository).delete(task);
+        verify(taskStatsService).apply(any(TaskStatsDeltas.class));
     }
 
     @Test
@@ -137,6 +189,98 @@ public class TaskServiceTest {
         assertEquals(readDto, result.getContent().get(0));
     }
 
+    @Test
+    public void testGetAllTasksByCursor_FirstPage() {
+        task.setCreatedDate(LocalDateTime.of(2024, 5, 1, 10, 0));
+        when(taskRepository.findAllByOrderByCreatedDateDescIdDesc(any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(List.of(task), Pageable.ofSize(1), true));
+        when(taskMapper.toDto(task)).thenReturn(readDto);
+
+        CursorPageDto<TaskReadDto> result = taskService.getAllTasks("", 1);
+
+        assertTrue(result.isHasNext());
+        assertEquals(List.of(readDto), result.getContent());
+        PageCursor next = PageCursor.decode(result.getNextCursor());
+        assertEquals("2024-05-01T10:00", next.getSortKey());
+        assertEquals(1L, next.getId());
+    }
+
+    @Test
+    public void testGetAllTasksByCursor_NextPage() {
+        String cursor = new PageCursor("2024-05-01T10:00", 5L).encode();
+        when(taskRepository.findAllAfter(eq(LocalDateTime.of(2024, 5, 1, 10, 0)), eq(5L), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(List.of(task), Pageable.ofSize(10), false));
+        when(taskMapper.toDto(task)).thenReturn(readDto);
+
+        CursorPageDto<TaskReadDto> result = taskService.getAllTasks(cursor, 10);
+
+        assertFalse(result.isHasNext());
+        assertNull(result.getNextCursor());
+        assertEquals(List.of(readDto), result.getContent());
+        verify(taskRepository, never()).findAllByOrderByCreatedDateDescIdDesc(any(Pageable.class));
+    }
+
+    @Test
+    public void testFilterTasks_SortsByCreatedDateAndIdByDefault() {
+        Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdDate", "id"));
+        when(taskRepository.findAll(ArgumentMatchers.<Specification<Task>>any(), eq(pageable)))
+                .thenReturn(new PageImpl<>(List.of(task), pageable, 1));
+        when(taskMapper.toDto(task)).thenReturn(readDto);
+
+        Page<TaskReadDto> result = taskService.filterTasks(TaskFilterDto.builder().status("PROGRESS").build(), 0, 10);
+
+        assertEquals(List.of(readDto), result.getContent());
+    }
+
+    @Test
+    public void testFilterTasks_InvalidDateRange() {
+        TaskFilterDto filter = TaskFilterDto.builder()
+                .createdFrom(LocalDateTime.of(2024, 5, 2, 0, 0))
+                .createdTo(LocalDateTime.of(2024, 5, 1, 0, 0))
+                .build();
+
+        assertThrows(DataValidationException.class, () -> taskService.filterTasks(filter, 0, 10));
+        verify(taskRepository, never()).findAll(ArgumentMatchers.<Specification<Task>>any(), any(Pageable.class));
+    }
+
+    @Test
+    public void testSearchTasks_RankedWithNextCursor() {
+        Task second = new Task();
+        second.setId(2L);
+        TaskReadDto secondDto = new TaskReadDto();
+        when(taskRepository.search("report", "PROGRESS", null, null, Float.POSITIVE_INFINITY, Long.MAX_VALUE, 3))
+                .thenReturn(List.of(hit(2L, 0.9f), hit(1L, 0.5f), hit(3L, 0.1f)));
+        when(taskRepository.findAllByIdIn(List.of(2L, 1L))).thenReturn(List.of(task, second));
+        when(taskMapper.toDto(task)).thenReturn(readDto);
+        when(taskMapper.toDto(second)).thenReturn(secondDto);
+
+        ReflectionTestUtils.setField(taskService, "maxSearchPageSize", 100);
+
+        CursorPageDto<TaskReadDto> result = taskService.searchTasks("report", "PROGRESS", null, null, "", 2);
+
+        assertTrue(result.isHasNext());
+        assertEquals(List.of(secondDto, readDto), result.getContent());
+        assertEquals(new PageCursor("0.5", 1L), PageCursor.decode(result.getNextCursor()));
+    }
+
+    @Test
+    public void testSearchTasks_PageSizeOutOfRange() {
+        ReflectionTestUtils.setField(taskService, "maxSearchPageSize", 100);
+
+        assertThrows(DataValidationException.class,
+                () -> taskService.searchTasks("report", null, null, null, "", 0));
+        assertThrows(DataValidationException.class,
+                () -> taskService.searchTasks("report", null, null, null, "", Integer.MAX_VALUE));
+        verify(taskRepository, never()).search(any(), any(), any(), any(), anyFloat(), anyLong(), anyInt());
+    }
+
+    @Test
+    public void testSearchTasks_InvalidStatus() {
+        assertThrows(DataValidationException.class,
+                () -> taskService.searchTasks("report", "DONE", null, null, "", 10));
+        verify(taskRepository, never()).search(any(), any(), any(), any(), anyFloat(), anyLong(), anyInt());
+    }
+
     @Test
     public void testCreateTask_UserNotFound() {
         when(userService.findByEmail(anyString())).thenThrow(new UsernameNotFoundException("User not found"));
@@ -168,4 +312,18 @@ public class TaskServiceTest {
 
         assertEquals("Task 1 not found", exception.getMessage());
     }
+
+    private TaskRepository.SearchHit hit(Long id, Float rank) {
+        return new TaskRepository.SearchHit() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Float getRank() {
+                return rank;
+            }
+        };
+    }
 }
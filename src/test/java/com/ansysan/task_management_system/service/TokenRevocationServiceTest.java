@@ -0,0 +1,108 @@
+package com.ansysan.task_management_system.service;
+
+import com.ansysan.task_management_system.config.JwtConfig;
+import com.ansysan.task_management_system.service.JwtTokenCache.VerifiedToken;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class TokenRevocationServiceTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    private TokenRevocationService tokenRevocationService;
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        JwtConfig jwtConfig = new JwtConfig();
+        jwtConfig.setExpiration(3600);
+        tokenRevocationService = new TokenRevocationService(redisTemplate, listenerContainer, jwtConfig);
+    }
+
+    @Test
+    public void testRevoke_StoresTokenUntilExpirationAndBroadcasts() {
+        VerifiedToken token = token("jti-1", "user@example.com", -1000);
+
+        tokenRevocationService.revoke(token);
+
+        assertTrue(tokenRevocationService.isRevoked(token));
+        assertFalse(tokenRevocationService.isRevoked(token("jti-2", "user@example.com", -1000)));
+        verify(valueOperations).set(eq("token:revoked:jti-1"), eq(String.valueOf(token.expiresAtMillis())),
+                any(Duration.class));
+        verify(redisTemplate).convertAndSend(eq(TokenRevocationService.REVOCATION_CHANNEL), any());
+    }
+
+    @Test
+    public void testRevokeAll_RejectsTokensIssuedBefore() {
+        VerifiedToken older = token("jti-1", "user@example.com", -5000);
+        VerifiedToken other = token("jti-2", "other@example.com", -5000);
+
+        tokenRevocationService.revokeAll("user@example.com");
+
+        assertTrue(tokenRevocationService.isRevoked(older));
+        assertFalse(tokenRevocationService.isRevoked(other));
+        assertFalse(tokenRevocationService.isRevoked(token("jti-3", "user@example.com", 5000)));
+    }
+
+    @Test
+    public void testOnMessage_AppliesRevocationsFromOtherNodes() {
+        VerifiedToken token = token("jti-1", "user@example.com", -1000);
+
+        tokenRevocationService.onMessage(message("jti:" + token.expiresAtMillis() + ":jti-1"), null);
+        tokenRevocationService.onMessage(message("nbf:" + System.currentTimeMillis() + ":other@example.com"), null);
+        tokenRevocationService.onMessage(message("garbage"), null);
+
+        assertTrue(tokenRevocationService.isRevoked(token));
+        assertTrue(tokenRevocationService.isRevoked(token("jti-2", "other@example.com", -1000)));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testRefresh_DropsExpiredRevocations() throws InterruptedException {
+        when(redisTemplate.scan(any(ScanOptions.class))).thenReturn(mock(Cursor.class));
+        VerifiedToken token = token("jti-1", "user@example.com", -1000);
+        tokenRevocationService.onMessage(message("jti:" + (System.currentTimeMillis() + 20) + ":jti-1"), null);
+        assertTrue(tokenRevocationService.isRevoked(token));
+
+        Thread.sleep(50);
+        tokenRevocationService.refresh();
+
+        assertFalse(tokenRevocationService.isRevoked(token));
+        verify(redisTemplate, times(2)).scan(any(ScanOptions.class));
+    }
+
+    private static VerifiedToken token(String id, String subject, long issuedAtOffsetMillis) {
+        long now = System.currentTimeMillis();
+        return new VerifiedToken(id, subject, List.of(), now + issuedAtOffsetMillis, now + 60_000, null);
+    }
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage(TokenRevocationService.REVOCATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+}
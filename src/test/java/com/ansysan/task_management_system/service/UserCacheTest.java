@@ -0,0 +1,125 @@
+package com.ansysan.task_management_system.service;
+
+import com.ansysan.task_management_system.entity.User;
+import com.ansysan.task_management_system.entity.enums.Role;
+import com.ansysan.task_management_system.repository.UserRepository;
+import com.ansysan.task_management_system.util.BaseTest;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class UserCacheTest extends BaseTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private AdminService adminService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserCache userCache;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private User user;
+
+    @BeforeAll
+    public void setUpUser() {
+        user = userRepository.save(User.builder()
+                .username("cache-user@example.com")
+                .email("cache-user@example.com")
+                .password("password")
+                .role(Role.USER)
+                .build());
+    }
+
+    @Test
+    @DisplayName("Repeated lookups by id and email hit the database once")
+    public void testLookups_CachedAfterFirstLoad() {
+        userCache.invalidate(user);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        userService.findById(user.getId());
+        userService.findById(user.getId());
+        userService.findByEmail(user.getEmail());
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("Role change through AdminService is visible immediately")
+    public void testRoleChange_Invalidates() {
+        userService.findByEmail(user.getEmail());
+
+        adminService.setRoleAdmin(user.getId());
+        assertEquals(Role.ADMIN, userService.findByEmail(user.getEmail()).getRole());
+
+        adminService.setRoleUser(user.getId());
+        assertEquals(Role.USER, userService.findById(user.getId()).getRole());
+    }
+
+    @Test
+    @DisplayName("An invalidation published by another node evicts the local copy")
+    public void testInvalidationMessage_EvictsLocalCopy() throws InterruptedException {
+        userService.findById(user.getId());
+        User changed = userRepository.findById(user.getId()).orElseThrow();
+        changed.setUsername("renamed");
+        userRepository.save(changed);
+        redisTemplate.delete("user:id:" + user.getId());
+
+        redisTemplate.convertAndSend(UserCache.INVALIDATION_CHANNEL, user.getId() + ":" + user.getEmail());
+
+        String username = null;
+        for (int attempt = 0; attempt < 50 && !"renamed".equals(username); attempt++) {
+            Thread.sleep(100);
+            username = userService.findById(user.getId()).getUsername();
+        }
+        assertEquals("renamed", username);
+    }
+
+    @Test
+    @DisplayName("A copy loaded before an invalidation is not cached after it")
+    public void testPut_StaleCopyDropped() {
+        Long generation = userCache.generation();
+        User loaded = userRepository.findById(user.getId()).orElseThrow();
+        userCache.invalidate(user);
+
+        userCache.put(loaded, generation);
+
+        assertNull(redisTemplate.opsForValue().get("user:id:" + user.getId()));
+        assertNull(redisTemplate.opsForValue().get("user:email:" + user.getEmail()));
+        assertTrue(userCache.findById(user.getId()).isEmpty());
+
+        userCache.put(loaded, userCache.generation());
+        assertTrue(userCache.findById(user.getId()).isPresent());
+    }
+
+    @Test
+    @DisplayName("The password hash stays out of the cache")
+    public void testPasswordNotCached() {
+        userCache.invalidate(user);
+
+        userService.findById(user.getId());
+
+        assertFalse(redisTemplate.opsForValue().get("user:id:" + user.getId()).contains("password"));
+        assertNull(userService.findByEmail(user.getEmail()).getPassword());
+    }
+}
@@ -25,6 +25,9 @@ public class UserServiceTest {
     @Mock
     private UserMapper userMapper;
 
+    @Mock
+    private UserCache userCache;
+
     @InjectMocks
     private UserService userService;
 
@@ -59,6 +62,25 @@ public class UserServiceTest {
         verify(userRepository).findById(1L);
     }
 
+    @Test
+    public void testFindById_CachesLoadedUser() {
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+
+        userService.findById(1L);
+
+        verify(userCache).put(user, 0L);
+    }
+
+    @Test
+    public void testFindById_CacheHitSkipsRepository() {
+        when(userCache.findById(1L)).thenReturn(Optional.of(user));
+
+        User foundUser = userService.findById(1L);
+
+        assertEquals(user, foundUser);
+        verify(userRepository, never()).findById(anyLong());
+    }
+
     @Test
     public void testFindById_UserNotFound() {
         when(userRepository.findById(1L)).thenReturn(Optional.empty());
@@ -119,6 +141,7 @@ public class UserServiceTest {
         assertNotNull(deletedUser);
         assertEquals(userReadDto.getId(), deletedUser.getId());
         verify(userRepository).deleteUserById(1L);
+        verify(userCache).invalidate(user);
     }
 
     @Test
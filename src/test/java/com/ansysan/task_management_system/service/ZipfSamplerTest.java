@@ -0,0 +1,54 @@
+package com.ansysan.task_management_system.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ZipfSamplerTest {
+
+    @Test
+    public void testSample_FollowsZipfRatios() {
+        ZipfSampler sampler = new ZipfSampler(1000, 1.0, 1);
+        SplittableRandom random = new SplittableRandom(42);
+        long[] counts = new long[1001];
+        int samples = 200_000;
+        for (int i = 0; i < samples; i++) {
+            long rank = sampler.sample(random);
+            assertTrue(rank >= 1 && rank <= 1000);
+            counts[(int) rank]++;
+        }
+
+        assertEquals(2.0, (double) counts[1] / counts[2], 0.1);
+        assertEquals(10.0, (double) counts[1] / counts[10], 1.0);
+    }
+
+    @Test
+    public void testSampleIndex_IsReproducibleAndCoversRange() {
+        ZipfSampler sampler = new ZipfSampler(50, 0.5, 7);
+        SplittableRandom first = new SplittableRandom(3);
+        SplittableRandom second = new SplittableRandom(3);
+        Set<Long> seen = new HashSet<>();
+        for (int i = 0; i < 10_000; i++) {
+            long index = sampler.sampleIndex(first);
+            assertEquals(index, new ZipfSampler(50, 0.5, 7).sampleIndex(second));
+            assertTrue(index >= 0 && index < 50);
+            seen.add(index);
+        }
+        assertEquals(50, seen.size());
+    }
+
+    @Test
+    public void testSampleIndex_SingleElement() {
+        assertEquals(0, new ZipfSampler(1, 1.2, 5).sampleIndex(new SplittableRandom(1)));
+    }
+
+    @Test
+    public void testConstructor_RejectsInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new ZipfSampler(0, 1.0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new ZipfSampler(10, 0, 1));
+    }
+}
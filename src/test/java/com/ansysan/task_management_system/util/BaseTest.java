@@ -1,6 +1,12 @@
 package com.ansysan.task_management_system.util;
 
 import com.ansysan.task_management_system.TaskManagementSystemApplication;
+import com.ansysan.task_management_system.config.SqlStatementCounter;
+import com.ansysan.task_management_system.entity.Task;
+import com.ansysan.task_management_system.entity.User;
+import com.ansysan.task_management_system.entity.enums.Priority;
+import com.ansysan.task_management_system.entity.enums.Role;
+import com.ansysan.task_management_system.entity.enums.Status;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.redis.testcontainers.RedisContainer;
 import org.junit.jupiter.api.DisplayName;
@@ -14,13 +20,18 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.ResultActions;
 import org.testcontainers.containers.PostgreSQLContainer;
 import org.testcontainers.containers.wait.strategy.Wait;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 import org.testcontainers.utility.DockerImageName;
 
+import java.time.LocalDateTime;
+
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @SpringBootTest(
         classes = {
@@ -60,6 +71,47 @@ public class BaseTest {
         registry.add("spring.data.redis.host", REDIS_CONTAINER::getHost);
     }
 
+    /**
+     * Performs the request and fails if Hibernate ran more than {@code maxStatements} statements
+     * for it, listing every statement shape with its count.
+     */
+    protected ResultActions performWithMaxStatements(RequestBuilder request, int maxStatements) throws Exception {
+        try (SqlStatementCounter.Scope scope = SqlStatementCounter.start()) {
+            ResultActions actions = mockMvc.perform(request);
+            assertTrue(scope.count() <= maxStatements, () -> "Expected at most " + maxStatements
+                    + " SQL statements but ran " + scope.count() + ": " + scope.shapes());
+            return actions;
+        }
+    }
+
+    /**
+     * A plain USER with the email doubling as username, ready to be saved.
+     */
+    protected User user(String email) {
+        return User.builder()
+                .username(email)
+                .email(email)
+                .password("password")
+                .role(Role.USER)
+                .build();
+    }
+
+    /**
+     * A PENDING, LOW priority task authored and performed by {@code author}, ready to be saved.
+     */
+    protected Task task(User author) {
+        return Task.builder()
+                .header("Header")
+                .description("Description")
+                .status(Status.PENDING)
+                .priority(Priority.LOW)
+                .createdDate(LocalDateTime.now())
+                .updatedDate(LocalDateTime.now())
+                .author(author)
+                .performer(author)
+                .build();
+    }
+
     @Test
     @DisplayName("Spring context test check")
     @DirtiesContext